@@ -0,0 +1,62 @@
+package com.inpro.asBoard.as.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+//========================================================================
+// 1. AS 목록 커서(keyset) 토큰
+// 2. URL : (공용) /as/list, /api/as/list 의 cursor 파라미터
+// 3. Param : backward(이전 페이지 여부), sortField, sortDir, keyValue(정렬컬럼 값), asId
+// 4. 설명 : 마지막(또는 첫) 행의 [정렬컬럼 값 + AS_ID]를 URL-safe Base64 로 감싼 불투명 토큰
+//          값 타입은 N(숫자)/S(문자)/D(일시)/0(NULL) 로 구분하여 복원
+// 5. 작성 : agent(26.10.17)
+// 6. 수정 :
+//========================================================================
+public record AsListCursor(boolean backward, String sortField, String sortDir, Object keyValue, long asId) {
+
+    private static final String SEP = "\u001F";
+
+    //========================================================================
+    // 1. 토큰 인코딩
+    // 2. Param :
+    // 3. 설명 : 방향|정렬필드|정렬방향|값타입|값|AS_ID → Base64(URL-safe, padding 없음)
+    //========================================================================
+    public String encode() {
+        String kind;
+        String raw;
+        if (keyValue == null)                      { kind = "0"; raw = ""; }
+        else if (keyValue instanceof LocalDateTime) { kind = "D"; raw = keyValue.toString(); }
+        else if (keyValue instanceof Number)        { kind = "N"; raw = keyValue.toString(); }
+        else                                        { kind = "S"; raw = keyValue.toString(); }
+
+        String plain = String.join(SEP,
+                backward ? "P" : "N", sortField, sortDir, kind, raw, String.valueOf(asId));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //========================================================================
+    // 1. 토큰 디코딩
+    // 2. Param : token (Base64 문자열)
+    // 3. 설명 : 형식이 맞지 않으면 IllegalArgumentException
+    //========================================================================
+    public static AsListCursor decode(String token) {
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] p = plain.split(SEP, -1);
+            if (p.length != 6) throw new IllegalArgumentException("invalid cursor");
+
+            Object value = switch (p[3]) {
+                case "0" -> null;
+                case "D" -> LocalDateTime.parse(p[4]);
+                case "N" -> Long.valueOf(p[4]);
+                case "S" -> p[4];
+                default  -> throw new IllegalArgumentException("invalid cursor");
+            };
+            return new AsListCursor("P".equals(p[0]), p[1], p[2], value, Long.parseLong(p[5]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.inpro.asBoard.as.common;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.*;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+//========================================================================
+// 시트 행 스트리밍 읽기 (XLSX SAX / CSV)
+// - 행 단위 콜백만 하고 시트 전체를 메모리에 올리지 않음
+// - 날짜 서식 셀은 표시 형식과 무관하게 yyyy-MM-dd HH:mm:ss 로 전달
+//========================================================================
+public final class SheetRowReader {
+
+    @FunctionalInterface
+    public interface RowHandler {
+        // rowNum : 1부터 (엑셀 행 번호와 동일)
+        void row(int rowNum, List<String> cells);
+    }
+
+    private static final DateTimeFormatter ISO_DT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private SheetRowReader() {}
+
+    //========================================================================
+    // 1. XLSX 첫 시트 읽기
+    // Param : file (required), handler (required)
+    // 설명  : XSSFReader + SAX 핸들러, 공유 문자열만 메모리 사용
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(handler), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("XLSX 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    //========================================================================
+    // 1. CSV 읽기
+    // Param : in (required), handler (required)
+    // 설명  : RFC 4180 (따옴표 안 쉼표/줄바꿈 허용). BOM 없는 비 UTF-8 은 MS949 로 간주
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public static void readCsv(InputStream in, RowHandler handler) throws IOException {
+        BufferedInputStream bin = new BufferedInputStream(in, 1 << 16);
+        Reader r = new BufferedReader(new InputStreamReader(bin, detectCharset(bin)));
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false, any = false;
+        int rowNum = 1, c;
+        while ((c = r.read()) != -1) {
+            if (c == '\uFEFF' && !any && cell.length() == 0 && cells.isEmpty()) continue;  // BOM
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    r.mark(1);
+                    int n = r.read();
+                    if (n == '"') cell.append('"');
+                    else { quoted = false; if (n != -1) r.reset(); }
+                } else {
+                    cell.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString()); cell.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') { r.mark(1); if (r.read() != '\n') r.reset(); }
+                cells.add(cell.toString()); cell.setLength(0);
+                handler.row(rowNum++, cells);
+                cells = new ArrayList<>();
+                any = false;
+            } else {
+                cell.append((char) c);
+            }
+        }
+        if (any) {
+            cells.add(cell.toString());
+            handler.row(rowNum, cells);
+        }
+    }
+
+    // 앞부분이 UTF-8 로 깨짐 없이 읽히면 UTF-8, 아니면 MS949 (한글 엑셀 기본 CSV)
+    private static Charset detectCharset(BufferedInputStream in) throws IOException {
+        in.mark(1 << 16);
+        byte[] head = in.readNBytes(1 << 16);
+        in.reset();
+        CharsetDecoder dec = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CoderResult res = dec.decode(ByteBuffer.wrap(head), java.nio.CharBuffer.allocate(head.length + 1), false);
+        return res.isError() ? Charset.forName("MS949") : StandardCharsets.UTF_8;
+    }
+
+    // SAX 셀 이벤트 → 열 위치 맞춘 행 리스트
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        RowCollector(RowHandler handler) { this.handler = handler; }
+
+        @Override public void startRow(int rowNum) { cells.clear(); }
+
+        @Override public void endRow(int rowNum) { handler.row(rowNum + 1, new ArrayList<>(cells)); }
+
+        @Override public void cell(String ref, String value, XSSFComment comment) {
+            int col = columnOf(ref);
+            while (cells.size() < col) cells.add("");
+            cells.add(value == null ? "" : value);
+        }
+
+        private static int columnOf(String ref) {
+            int col = 0;
+            for (int i = 0; i < ref.length() && Character.isLetter(ref.charAt(i)); i++) {
+                col = col * 26 + (ref.charAt(i) - 'A' + 1);
+            }
+            return col - 1;
+        }
+    }
+
+    // 날짜 서식 셀은 로케일 표시형(9/1/25 등) 대신 고정 형식으로
+    private static final class IsoDateFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).format(ISO_DT);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+        }
+    }
+}
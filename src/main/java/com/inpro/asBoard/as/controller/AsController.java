@@ -2,11 +2,17 @@ package com.inpro.asBoard.as.controller;
 
 import com.inpro.asBoard.as.dto.*;
 import com.inpro.asBoard.as.mapper.AsMapper;
+import com.inpro.asBoard.as.service.AsCalendarService;
+import com.inpro.asBoard.as.service.AsDetailCache;
+import com.inpro.asBoard.as.service.AsExportService;
+import com.inpro.asBoard.as.service.AsListService;
+import com.inpro.asBoard.as.service.ListCountCache;
+import com.inpro.asBoard.as.service.AsSearchIndex;
+import com.inpro.asBoard.as.service.FarmDirectory;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -15,17 +21,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Controller
 @RequestMapping("/as")
@@ -33,7 +38,13 @@ import java.util.stream.IntStream;
 public class AsController {
 
     private final AsMapper asMapper;
-    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private final AsListService asListService;
+    private final ListCountCache listCountCache;
+    private final AsSearchIndex asSearchIndex;
+    private final FarmDirectory farmDirectory;
+    private final AsDetailCache asDetailCache; // 상세/수정 화면 1회 왕복 조회 + 단기 캐시
+    private final AsCalendarService asCalendarService; // 캘린더 기간 조회
+    private final AsExportService asExportService;     // 일정 엑셀 스트리밍 출력
 
     //========================================================================
     // 1. 접수 등록 페이지
@@ -41,11 +52,11 @@ public class AsController {
     // 3. Param :
     // 4. 설명 : AS 접수글 등록
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 농장 디렉터리 조회
     //========================================================================
     @GetMapping("/write")
     public String showWritePage(Model model) {
-        List<Map<String, String>> farmList = asMapper.selectFarmList();
+        List<Map<String, String>> farmList = farmDirectory.all();
         model.addAttribute("farmList", farmList);
         return "as/write";
     }
@@ -67,9 +78,13 @@ public class AsController {
     //            sortDir   (optional, asc|desc, default=desc)
     //            page (optional, int, default=1)
     //            size (optional, int, default=10)
+    //            pageMode (optional, offset|cursor, default=offset)
+    //            cursor   (optional, string)       // 커서 모드 이전/다음 토큰
     // 4. 설명 : AS 접수글 목록 조회 및 필터링
+    //          커서 모드는 COUNT 없이 [정렬컬럼, AS_ID] seek 조회 (깊은 페이지도 비용 일정)
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 커서(keyset) 페이징 추가
+    //         agent(26.10.17) 목록+전체 건수 한 번에 조회 / 건수 캐시
     //========================================================================
     @GetMapping("list") // 클래스 레벨 매핑이 있으면 "/list"로 바꿔도 됨
     public String showListPage(
@@ -94,63 +109,47 @@ public class AsController {
             // 날짜 기준
             @RequestParam(defaultValue = "plan") String dateBy,
 
+            // 커서 페이징
+            @RequestParam(required = false) String pageMode,  // offset|cursor
+            @RequestParam(required = false) String cursor,
+
             Model model
     ) {
-        final int offset = (page - 1) * size;
-
-        // 레거시 → 신규 흡수
-        if ((q == null || q.isBlank()) && keyword != null && !keyword.isBlank()) {
-            q = keyword.trim();
-        }
-        if ((statuses == null || statuses.isBlank()) && asStatus != null && !asStatus.isBlank()) {
-            statuses = asStatus; // 단일도 CSV처럼 처리
+        Map<String, Object> params = asListService.buildListParams(
+                keyword, asStatus, startDate, endDate, sortField, sortDir,
+                farms, types, statuses, tables, equipName, period, q, dateBy);
+
+        boolean cursorMode = "cursor".equals(pageMode) || (cursor != null && !cursor.isBlank());
+        if (cursorMode) {
+            AsListPageDto result = asListService.selectKeysetPage(params, cursor, size);
+            model.addAttribute("asList",     result.getItems());
+            model.addAttribute("page",       1);
+            model.addAttribute("totalPages", 0);
+            model.addAttribute("nextCursor", result.getNextCursor());
+            model.addAttribute("prevCursor", result.getPrevCursor());
+        } else {
+            final int offset = (page - 1) * size;
+            params.put("size",   size);
+            params.put("offset", offset);
+
+            // 페이지 + 전체 건수 단일 스캔 (같은 필터 건수는 잠시 캐시)
+            String countKey = listCountCache.keyOf("as", params);
+            Integer cached  = listCountCache.get(countKey);
+            params.put("withTotal", cached == null);
+
+            List<AsDto> list   = asMapper.selectAsListFiltered(params);
+            int totalCount;
+            if (cached != null)      totalCount = cached;
+            else if (!list.isEmpty()) totalCount = list.get(0).getTotalCount();
+            else                      totalCount = page > 1 ? asMapper.countAsListFiltered(params) : 0; // 범위 밖 페이지
+            if (cached == null) listCountCache.put(countKey, totalCount);
+            int totalPages       = (int) Math.ceil((double) totalCount / size);
+
+            model.addAttribute("asList",     list);
+            model.addAttribute("page",       page);
+            model.addAttribute("totalPages", totalPages);
         }
-        if (sortField == null || sortField.isBlank()) sortField = "asId";
-        if (sortDir   == null || sortDir.isBlank())   sortDir   = "desc";
-
-        // CSV → List
-        List<String> farmList   = csvToList(farms);
-        List<String> typeList   = csvToList(types);
-        List<String> statusList = csvToList(statuses);
-        List<String> tableList  = csvToList(tables);
-
-        boolean includeEtc  = typeList.stream().anyMatch("기타"::equals);
-        List<String> typesNonEtc = typeList.stream().filter(t -> !"기타".equals(t)).toList();
-        boolean includeHold = statusList.contains("보류");
-
-        // ✅ dateBy 정규화 (예외값 방지)
-        String dateByNorm = "reg".equalsIgnoreCase(dateBy) ? "reg" : "plan";
-
-        Map<String, Object> params = new LinkedHashMap<>();
-        params.put("farms",       farmList);
-        params.put("types",       typesNonEtc);
-        params.put("includeEtc",  includeEtc);
-        params.put("statuses",    statusList);
-        params.put("includeHold", includeHold);
-        params.put("tables",      tableList);
-        params.put("equipName",   equipName);
-        params.put("period",      period);
-        params.put("q",           (q != null && !q.isBlank()) ? q.trim() : null);
-
-        // ✅ 기간 기준 + 기간 값 전달 (XML에서 dateBy=plan→PLAN_DATE, reg→REG_DATE 기준으로 분기)
-        params.put("dateBy",      dateByNorm);
-        params.put("startDate",   startDate);
-        params.put("endDate",     endDate);
-
-        // 페이징/정렬
-        params.put("size",        size);
-        params.put("offset",      offset);
-        params.put("sortField",   sortField);
-        params.put("sortDir",     sortDir);
-
-        // 단일 쿼리
-        List<AsDto> list   = asMapper.selectAsListFiltered(params);
-        int totalCount       = asMapper.countAsListFiltered(params);
-        int totalPages       = (int) Math.ceil((double) totalCount / size);
-
-        model.addAttribute("asList",     list);
-        model.addAttribute("page",       page);
-        model.addAttribute("totalPages", totalPages);
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("asStatusList",
                 List.of("보류", "대기", "임박", "진행중", "지연", "완료"));
 
@@ -162,76 +161,37 @@ public class AsController {
         params.put("size", size);
         params.put("typesRaw",  types);
         params.put("tablesRaw", tables);
-        // ✅ dateBy도 보존
-        params.put("dateBy", dateByNorm);
         model.addAttribute("param", params);
 
         return "as/list";
     }
 
-    private static List<String> csvToList(String s) {
-        if (s == null || s.isBlank()) return List.of();
-        return Arrays.stream(s.split(","))
-                .map(String::trim)
-                .filter(v -> !v.isEmpty())
-                .distinct()
-                .toList();
-    }
-
     //========================================================================
     // 1. 일정 관리 페이지
     // 2. URL : [GET]{...}/as/calendar
     // 3. Param :
     // 4. 설명 : 월간 캘린더 및 주간 일정표 조회
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 기간 범위 조회
     //========================================================================
     @GetMapping("/calendar")
     public String showCalendarPage(Model model) {
 
-        /* 1) 전체 일정 */
-        List<AsScheduleDto> calendarScheduleList =
-                asMapper.selectAllForSchedule();
-
-        /* 2) 이번 주(월~일) 중 표시할 날짜 계산 */
+        /* 1) 이번 주(월~일) 일정만 범위 조회 → 날짜별 목록 */
         LocalDate monday = LocalDate.now()
                 .with(DayOfWeek.MONDAY);
-        List<LocalDate> fullWeek = IntStream.range(0, 7)
-                .mapToObj(monday::plusDays)
-                .toList();
+        AsCalendarDto week = asCalendarService.range(monday, monday.plusDays(7));
 
-        List<LocalDate> visibleWeekList = fullWeek.stream()
-                .filter(day -> {
-                    int dow = day.getDayOfWeek().getValue();
-                    if (dow < 6) return true;  // 월~금은 항상
-                    return calendarScheduleList.stream()
-                            .anyMatch(s ->
-                                    s.getPlanDate().toLocalDate().equals(day));
-                })
+        /* 2) 표시할 날짜 : 월~금은 항상, 주말은 일정 있는 날만 */
+        List<LocalDate> visibleWeekList = week.getDays().entrySet().stream()
+                .filter(e -> e.getKey().getDayOfWeek().getValue() < 6 || !e.getValue().isEmpty())
+                .map(Map.Entry::getKey)
                 .toList();
 
-        /* 3) 농장별 색상 팔레트 (고유코드 순차 할당 + 문자열 키 정규화) */
-        Map<String, Integer> farmColorMap = new LinkedHashMap<>();
-
-        List<String> codes = calendarScheduleList.stream()
-                .map(AsScheduleDto::getFarmCode)            // String/Number 어떤 타입이어도 OK
-                .filter(Objects::nonNull)
-                .map(c -> String.valueOf(c).trim())          // ★ 문자열 통일 + TRIM
-                .filter(s -> !s.isEmpty())
-                .distinct()
-                .toList();
-
-        int colorIdx = 0;
-        for (String code : codes) {
-            farmColorMap.put(code, colorIdx++ % 20);         // 고유코드만 0..110 순차 할당
-        }
-
-
-        /* 4) 뷰 모델 */
-        model.addAttribute("calendarScheduleList",
-                calendarScheduleList);
+        /* 3) 뷰 모델 (월간 캘린더는 /api/as/calendar 로 보이는 구간만 조회) */
+        model.addAttribute("weekDays", week.getDays());
         model.addAttribute("visibleWeekList", visibleWeekList);
-        model.addAttribute("farmColorMap", farmColorMap);
+        model.addAttribute("farmColorMap", week.getFarmColors());
 
         return "as/calendar";
     }
@@ -242,18 +202,14 @@ public class AsController {
     // 3. Param : asId
     // 4. 설명 : AS 접수 내역 상세 조회
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 상세 캐시 조회 (헤더+자식 1회 왕복, 30초 보관)
     //========================================================================
     @GetMapping("/detail/{asId}")
     public String showDetail(@PathVariable Long asId, Model model) {
 
-        // 1. 헤더 + STATUS_LABEL
-        AsDto as = asMapper.selectAsDetail(asId);
-
-        // 2. 서브 목록들
-        as.setEquipList(asMapper.selectEquipListByAsId(asId));
-        as.setFileList(asMapper.selectFileListByAsId(asId));
-        as.setScheduleList(asMapper.selectScheduleListByAsId(asId));
+        // 헤더 + STATUS_LABEL + 장비/첨부/일정 (1회 왕복, 30초 캐시)
+        AsDto as = asDetailCache.get(asId);
+        if (as == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "AS not found: " + asId);
 
         model.addAttribute("as", as);
         return "as/detail";
@@ -265,16 +221,15 @@ public class AsController {
     // 3. Param : asId
     // 4. 설명 : AS 접수 내역 수정
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 농장 디렉터리 조회
+    //         agent(26.10.17) 상세 캐시 조회 (헤더+자식 1회 왕복, 30초 보관)
     //========================================================================
     @GetMapping("/edit/{asId}")
     public String showEditPage(@PathVariable Long asId, Model model) {
-        AsDto as = asMapper.selectAsDetail(asId);
-        as.setEquipList(asMapper.selectEquipListByAsId(asId));
-        as.setFileList(asMapper.selectFileListByAsId(asId));
-        as.setScheduleList(asMapper.selectScheduleListByAsId(asId));
+        AsDto as = asDetailCache.get(asId);
+        if (as == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "AS not found: " + asId);
         model.addAttribute("as", as);
-        model.addAttribute("farmList", asMapper.selectFarmList());
+        model.addAttribute("farmList", farmDirectory.all());
         return "as/edit";
     }
 
@@ -296,7 +251,8 @@ public class AsController {
     //            size      (optional, int, default=10)
     // 4. 설명 : AS 일정 내역 조회/필터/정렬/페이징.
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 목록+전체 건수 한 번에 조회 / 건수 캐시
+    //         agent(26.10.17) 자유검색 색인 후보(qIds) 조회
     //========================================================================
     @GetMapping("/schedule")
     public String scheduleList(
@@ -338,6 +294,7 @@ public class AsController {
 
         Map<String, Object> params = new LinkedHashMap<>();
         params.put("q",           (q != null && !q.isBlank()) ? q.trim() : null);
+        params.put("qIds",        asSearchIndex.candidates(q));
         params.put("farms",       farmList);
         params.put("types",       typesNonEtc);
         params.put("includeEtc",  includeEtc);
@@ -352,8 +309,17 @@ public class AsController {
         params.put("offset",      offset);
         params.put("size",        size);
 
+        // 페이지 + 전체 건수 단일 스캔 (같은 필터 건수는 잠시 캐시)
+        String countKey = listCountCache.keyOf("schedule", params);
+        Integer cached  = listCountCache.get(countKey);
+        params.put("withTotal", cached == null);
+
         List<AsScheduleRowDto> list = asMapper.selectScheduleRowListWithPaging(params);
-        int total = asMapper.countScheduleRowList(params);
+        int total;
+        if (cached != null)      total = cached;
+        else if (!list.isEmpty()) total = list.get(0).getTotalCount();
+        else                      total = page > 1 ? asMapper.countScheduleRowList(params) : 0; // 범위 밖 페이지
+        if (cached == null) listCountCache.put(countKey, total);
         int totalPages = (int) Math.ceil(total / (double) size);
 
         model.addAttribute("rowList", list);
@@ -382,10 +348,11 @@ public class AsController {
     //          startDate, endDate, sortField, sortDir, page, size,
     // 4. 설명 : 필터링된 일정 내역 Excel 파일로 내보내기
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) Cursor 스트리밍 출력
+    //         agent(26.10.17) 내보내기 작업 공용화
     //========================================================================
     @GetMapping("/schedule/export")
-    public ResponseEntity<byte[]> exportExcel(
+    public ResponseEntity<StreamingResponseBody> exportExcel(
             // 필터들 동일
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String farms,
@@ -403,96 +370,19 @@ public class AsController {
             @RequestParam(required = false) String cols
     ) throws Exception {
 
-        if (sortField == null || sortField.isBlank()) sortField = "planDate";
-        if (sortDir   == null || sortDir.isBlank())   sortDir   = "asc";
-
-        List<String> farmList   = csvToList2(farms);
-        List<String> typeList   = csvToList2(types);
-        List<String> tableList  = csvToList2(tables);
-        boolean includeEtc      = typeList.stream().anyMatch("기타"::equals);
-        List<String> typesNonEtc= typeList.stream().filter(t -> !"기타".equals(t)).toList();
-
-        Map<String, Object> params = new LinkedHashMap<>();
-        params.put("q",           (q != null && !q.isBlank()) ? q.trim() : null);
-        params.put("farms",       farmList);
-        params.put("types",       typesNonEtc);
-        params.put("includeEtc",  includeEtc);
-        params.put("tables",      tableList);
-        params.put("equipName",   equipName);
-        params.put("completion",  completion);
-        params.put("period",      period);
-        params.put("startDate",   startDate);
-        params.put("endDate",     endDate);
-        params.put("sortField",   sortField);
-        params.put("sortDir",     sortDir);
-
-        List<AsScheduleRowDto> rows = asMapper.selectScheduleRowListForExport(params);
-
-        // 선택 컬럼 파싱 (기본: 전부)
-        List<String> defaultCols = List.of(
-                "asId","farmName","farmCode","regionName","projectName",
-                "asType","reqDate","planDate","completeDate","completedMark"
-        );
-        Set<String> allowed = new LinkedHashSet<>(defaultCols);
-        List<String> colKeys = (cols == null || cols.isBlank())
-                ? defaultCols
-                : Arrays.stream(cols.split(",")).map(String::trim)
-                .filter(allowed::contains).distinct().toList();
-        if (colKeys.isEmpty()) colKeys = defaultCols;
-
-        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            Sheet sh = wb.createSheet("일정내역");
-            CreationHelper ch = wb.getCreationHelper();
-            CellStyle dateTimeStyle = wb.createCellStyle();
-            dateTimeStyle.setDataFormat(ch.createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
-
-            Map<String, String> headerMap = Map.of(
-                    "asId","AS_ID", "farmName","농가명", "farmCode","농가코드", "regionName","지역",
-                    "projectName","사업명", "asType","문제유형", "reqDate","접수일", "planDate","예정일",
-                    "completeDate","완료일", "completedMark","완료"
-            );
-
-            // 헤더
-            Row head = sh.createRow(0);
-            for (int i=0; i<colKeys.size(); i++) head.createCell(i).setCellValue(headerMap.get(colKeys.get(i)));
-
-            // 데이터
-            int r = 1;
-            for (AsScheduleRowDto row : rows) {
-                Row rr = sh.createRow(r++);
-                int c = 0;
-
-                for (String k : colKeys) {
-                    switch (k) {
-                        case "asId"        -> rr.createCell(c++).setCellValue(row.getAsId() == null ? 0 : row.getAsId());
-                        case "farmName"    -> rr.createCell(c++).setCellValue(nn(row.getFarmName()));
-                        case "farmCode"    -> rr.createCell(c++).setCellValue(nn(row.getFarmCode()));
-                        case "regionName"  -> rr.createCell(c++).setCellValue(nn(row.getRegionName()));
-                        case "projectName" -> rr.createCell(c++).setCellValue(nn(row.getProjectName()));
-                        case "asType"      -> rr.createCell(c++).setCellValue(nn(row.getAsType()));
-                        case "reqDate"     -> writeDateCell(rr, c++, row.getReqDate(), dateTimeStyle);
-                        case "planDate"    -> writeDateCell(rr, c++, row.getPlanDate(), dateTimeStyle);
-                        case "completeDate"-> writeDateCell(rr, c++, row.getCompleteDate(), dateTimeStyle);
-                        case "completedMark" -> {
-                            String mark = "완료".equals(row.getCompletionLabel()) ? "O" : "X";
-                            rr.createCell(c++).setCellValue(mark);
-                        }
-                    }
-                }
-            }
-
-            for (int i=0; i<colKeys.size(); i++) sh.autoSizeColumn(i);
-            wb.write(bos);
-            String fname = URLEncoder.encode("일정내역.xlsx", StandardCharsets.UTF_8).replace("+","%20");
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fname)
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .body(bos.toByteArray());
-        }
+        Map<String, Object> params = asExportService.buildScheduleParams(
+                q, farms, types, tables, equipName, completion, period, startDate, endDate, sortField, sortDir);
+        List<String> colKeys = asExportService.resolveColumns(cols);
+
+        // 행을 모두 읽어 byte[] 로 만들지 않고 Cursor → SXSSF → 응답 스트림으로 바로 기록
+        StreamingResponseBody body = out -> asExportService.writeScheduleXlsx(params, colKeys, out, null);
+        String fname = URLEncoder.encode("일정내역.xlsx", StandardCharsets.UTF_8).replace("+","%20");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fname)
+                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(body);
     }
 
-    private static String nn(Object o){ return o==null? "" : String.valueOf(o); }
-
     // ===== 일정 전용 CSV 파서 =====
     private static List<String> csvToList2(String s) {
         if (s == null || s.isBlank()) return Collections.emptyList();
@@ -503,13 +393,4 @@ public class AsController {
                 .collect(Collectors.toList());
     }
 
-    // ===== ZONE_SEOUL 시간대 설정 =====
-    private static void writeDateCell(Row row, int col, LocalDateTime ldt, CellStyle style) {
-        Cell cell = row.createCell(col);
-        if (ldt == null) { cell.setBlank(); return; }
-        cell.setCellStyle(style);
-        Date d = Date.from(ldt.atZone(ZONE_SEOUL).toInstant());
-        cell.setCellValue(d);
-    }
-
-}
\ No newline at end of file
+}
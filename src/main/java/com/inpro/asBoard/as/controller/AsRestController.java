@@ -2,18 +2,50 @@ package com.inpro.asBoard.as.controller;
 
 import com.inpro.asBoard.as.dto.*;
 import com.inpro.asBoard.as.mapper.AsMapper;
+import com.inpro.asBoard.as.service.AsCalendarService;
+import com.inpro.asBoard.as.service.AsChangeService;
+import com.inpro.asBoard.as.service.AsChildWriter;
+import com.inpro.asBoard.as.service.AsDataVersion;
+import com.inpro.asBoard.as.service.AsDetailCache;
+import com.inpro.asBoard.as.service.AsExportJobService;
+import com.inpro.asBoard.as.service.AsExportService;
+import com.inpro.asBoard.as.service.AsImportService;
+import com.inpro.asBoard.as.service.AsListService;
+import com.inpro.asBoard.as.service.AsScheduleService;
+import com.inpro.asBoard.as.service.AsSearchIndex;
+import com.inpro.asBoard.as.service.AsStatusService;
+import com.inpro.asBoard.as.service.AsTextExportService;
+import com.inpro.asBoard.as.service.DashDailyStatService;
+import com.inpro.asBoard.as.service.DashFactCube;
+import com.inpro.asBoard.as.service.EquipCatalogService;
+import com.inpro.asBoard.as.service.EquipPresenceIndex;
+import com.inpro.asBoard.as.service.EquipSourceRegistry;
+import com.inpro.asBoard.as.service.FarmDirectory;
+import com.inpro.asBoard.as.service.ListCountCache;
 import com.inpro.asBoard.storage.FileStorageService;
 import com.inpro.asBoard.storage.SavedFile;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/as")
@@ -22,31 +54,40 @@ public class AsRestController {
 
     private final AsMapper asMapper;
     private final FileStorageService storage; // 경로/저장 로직 주입
-
-    //========================================================================
-    // 장비 테이블 화이트리스트 (프론트 select와 무관하게 서버에서 최종 검증)
-    //========================================================================
-    private static final Set<String> ALLOWED_EQUIP_TABLES = Set.of(
-            "SF_TBL_AIRCON","SF_TBL_BRUSH","SF_TBL_COOLER","SF_TBL_ENVIRON","SF_TBL_ENVIRON_L",
-            "SF_TBL_EQMNT","SF_TBL_FEEDBIN","SF_TBL_FEEDBIN_B","SF_TBL_FEEDBIN_L","SF_TBL_FOG",
-            "SF_TBL_LIGHT","SF_TBL_METER","SF_TBL_METER_S","SF_TBL_ROOF","SF_TBL_STER","SF_TBL_STER_Q",
-            "SF_TBL_STER_V","SF_TBL_VEHICLE","SF_TBL_VEHICLE_A","SF_TBL_VENTIL","SF_TBL_VENTIL_C",
-            "SF_TBL_VENTIL_D","SF_TBL_VENTIL_P","SF_TBL_VENTIL_S","SF_TBL_WIND","SF_TBL_WIND_D"
-    );
+    private final AsChildWriter asChildWriter; // 장비/일정/파일 다중 행 일괄 등록
+    private final AsListService asListService;
+    private final ListCountCache listCountCache; // 목록 건수 캐시 (변경 시 무효화)
+    private final AsStatusService asStatusService; // AS 상태 프로젝션 갱신
+    private final AsSearchIndex asSearchIndex;     // 자유검색 n-gram 색인 (변경 시 재색인)
+    private final DashFactCube dashFactCube;       // 대시보드 집계 열 저장소 (변경 시 AS 단위 교체)
+    private final DashDailyStatService dashDailyStatService; // 대시보드 일별 롤업 (같은 트랜잭션 증감)
+    private final AsDetailCache asDetailCache;     // 상세 캐시 (변경 시 AS 단위 무효화)
+    private final AsDataVersion asDataVersion;     // 조건부 GET 용 데이터 버전 (변경 시 증가)
+    private final FarmDirectory farmDirectory;     // 농장 디렉터리(메모리 자동완성)
+    private final EquipPresenceIndex equipPresenceIndex; // 농가 → 장비 테이블 보유 비트셋
+    private final EquipCatalogService equipCatalogService; // 농가 장비 카탈로그(병렬 조회 + 캐시)
+    private final EquipSourceRegistry equipSourceRegistry; // 장비 테이블 메타 (프론트 select와 무관하게 서버에서 최종 검증)
+    private final AsImportService asImportService;       // 엑셀/CSV 일괄 등록
+    private final AsScheduleService asScheduleService;   // 일정 일괄 완료/예정일 변경
+    private final AsChangeService asChangeService;       // 변경분 조회(델타 동기화)
+    private final AsCalendarService asCalendarService;   // 캘린더 기간 조회
+    private final AsExportService asExportService;       // 엑셀 생성 (일정/AS 목록)
+    private final AsExportJobService asExportJobService; // 비동기 내보내기 작업
+    private final AsTextExportService asTextExportService; // CSV/NDJSON 스트리밍
 
     //========================================================================
     // 1. 농가 장비 테이블 조회 API
     // 2. Param : farmCode
-    // 3. 설명 : 해당 농가에 데이터가 존재하는 장비 테이블명 조회
+    // 3. 설명 : 해당 농가에 데이터가 존재하는 장비 테이블명 조회 (메모리 보유 색인 비트 조회)
     // 4. 작성 : wjlee(25.09.01)
-    // 5. 수정 :
+    // 5. 수정 : agent(26.10.17) 장비 보유 인덱스 사용
     //========================================================================
     @GetMapping("/categoryList")
     public List<String> getCategoryList(@RequestParam String farmCode) {
         if (farmCode == null || farmCode.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "farmCode is required");
         }
-        return asMapper.selectCategoryList(farmCode);
+        return equipPresenceIndex.tablesOf(farmCode);
     }
 
     //========================================================================
@@ -54,7 +95,7 @@ public class AsRestController {
     // 2. Param : farmCode, tableName
     // 3. 설명 : 해당 농가에 등록된 장비 목록 조회
     // 4. 작성 : wjlee(25.09.01)
-    // 5. 수정 :
+    // 5. 수정 : agent(26.10.17) 장비 테이블 레지스트리 기반으로 변경
     //========================================================================
     @GetMapping("/equipmentList")
     public List<Map<String, Object>> getEquipmentList(@RequestParam String farmCode,
@@ -62,25 +103,175 @@ public class AsRestController {
         if (farmCode == null || farmCode.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "farmCode is required");
         }
-        if (!ALLOWED_EQUIP_TABLES.contains(tableName)) {
+        EquipSourceDto src = equipSourceRegistry.get(tableName);
+        if (src == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported table: " + tableName);
         }
-        Map<String, Object> param = new HashMap<>();
-        param.put("farmCode", farmCode);
-        param.put("tableName", tableName);
-        return asMapper.selectEquipmentListByTable(param);
+        return asMapper.selectEquipmentListByTable(src, farmCode);
     }
 
     //========================================================================
-    // 1. 농가 목록 검색 API
+    // 1. 농가 장비 카탈로그 조회 API
     // 2. Param : farmCode
-    // 3. 설명 : 사용 농가 목록을 이름/코드 부분일치로 검색
-    // 4. 작성 : wjlee(25.09.01)
+    // 3. 설명 : 해당 농가의 보유 장비 테이블별 장비 목록을 한 번에 반환 (테이블명 → 목록)
+    //          항목 형식은 /equipmentList 와 동일, 테이블별 조회는 병렬 + 농가 단위 캐시
+    // 4. 작성 : agent(26.10.17)
     // 5. 수정 :
     //========================================================================
+    @GetMapping("/equipmentCatalog")
+    public Map<String, List<Map<String, Object>>> getEquipmentCatalog(@RequestParam String farmCode) {
+        if (farmCode == null || farmCode.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "farmCode is required");
+        }
+        return equipCatalogService.catalogOf(farmCode);
+    }
+
+    //========================================================================
+    // 1. 농가 목록 검색 API
+    // 2. Param : keyword (빈 값이면 전체), limit (optional, default=50, 1~500)
+    // 3. 설명 : 사용 농가 목록을 이름/코드 부분일치 + 초성으로 검색 (메모리 디렉터리, 순위 상위 limit 건)
+    // 4. 작성 : wjlee(25.09.01)
+    // 5. 수정 : agent(26.10.17) 농장 디렉터리 조회
+    //========================================================================
     @GetMapping("/searchFarmList")
-    public List<Map<String, String>> searchFarmList(@RequestParam String keyword) {
-        return asMapper.searchFarmList(keyword);
+    public List<Map<String, String>> searchFarmList(@RequestParam String keyword,
+                                                    @RequestParam(defaultValue = "" + FarmDirectory.DEFAULT_LIMIT) int limit) {
+        if (limit < 1 || limit > 500) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be 1~500");
+        }
+        return farmDirectory.search(keyword, limit);
+    }
+
+    //========================================================================
+    // 1. AS 접수 목록 조회 API (커서 페이징)
+    // 2. URL : [GET]{...}/api/as/list
+    // 3. Param : /as/list 와 동일한 필터(q, farms, types, statuses, tables, equipName,
+    //            period, dateBy, startDate, endDate, sortField, sortDir)
+    //            size   (optional, int, default=10, 1~200)
+    //            cursor (optional, string)   // 응답의 nextCursor/prevCursor 그대로 전달
+    // 4. 설명 : [정렬컬럼, AS_ID] keyset 조회 결과와 이전/다음 커서 반환 (COUNT 없음)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/list")
+    public AsListPageDto getAsList(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String asStatus,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "plan") String dateBy,
+            @RequestParam(required = false) String cursor) {
+        if (size < 1 || size > 200) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be 1~200");
+        }
+        Map<String, Object> params = asListService.buildListParams(
+                keyword, asStatus, startDate, endDate, sortField, sortDir,
+                farms, types, statuses, tables, equipName, period, q, dateBy);
+        return asListService.selectKeysetPage(params, cursor, size);
+    }
+
+    //========================================================================
+    // 1. AS 목록 필터 옵션별 건수 API (facet)
+    // 2. URL : [GET]{...}/api/as/facets
+    // 3. Param : /as/list 와 동일한 필터(q, farms, types, statuses, tables, equipName,
+    //            period, dateBy, startDate, endDate)
+    // 4. 설명 : 진행도/문제유형/장비 카테고리/농장 옵션별 건수 (각 facet 은 자기 선택만 제외하고 집계)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/facets")
+    public AsFacetDto getAsFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String asStatus,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "plan") String dateBy) {
+        Map<String, Object> params = asListService.buildListParams(
+                keyword, asStatus, startDate, endDate, null, null,
+                farms, types, statuses, tables, equipName, period, q, dateBy);
+        return asListService.selectFacets(params);
+    }
+
+    //========================================================================
+    // 1. AS 자유검색 API (순위)
+    // 2. URL : [GET]{...}/api/as/search
+    // 3. Param : q     (required, 2글자 이상)
+    //            limit (optional, int, default=20, 1~100)
+    // 4. 설명 : 메모리 n-gram 색인으로 목록 q 와 같은 8개 컬럼을 검색, 일치 필드 가중치 순 반환
+    //          (후보/순위는 색인만 사용, 상위 limit 건의 표시 컬럼만 DB 조회 → 자동완성/빠른 이동용)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 표시 컬럼 재조회
+    //========================================================================
+    @GetMapping("/search")
+    public List<Map<String, Object>> searchAs(@RequestParam String q,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be 1~100");
+        }
+        if (!asSearchIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "search index not ready");
+        }
+        return asSearchIndex.search(q, limit);
+    }
+
+    //========================================================================
+    // 1. AS 변경분 조회 API (델타 동기화)
+    // 2. URL : [GET]{...}/api/as/changes
+    // 3. Param : since (optional, string)  // 직전 응답의 nextCursor, 비우면 전체 동기화
+    //            size  (optional, int, default=100, 1~500)
+    // 4. 설명 : 커서 이후 바뀐 AS(헤더+장비/첨부/일정)와 삭제된 AS ID 반환
+    //          hasMore=true 면 nextCursor 로 바로 이어서 호출, false 면 nextCursor 저장 후 다음 주기에 호출
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/changes")
+    public AsChangePageDto getChanges(@RequestParam(required = false) String since,
+                                      @RequestParam(defaultValue = "" + AsChangeService.DEFAULT_SIZE) int size) {
+        if (size < 1 || size > AsChangeService.MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be 1~" + AsChangeService.MAX_SIZE);
+        }
+        try {
+            return asChangeService.changesSince(since, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid since");
+        }
+    }
+
+    //========================================================================
+    // 1. 캘린더 기간 일정 API
+    // 2. URL : [GET]{...}/api/as/calendar
+    // 3. Param : from (required, yyyy-MM-dd, 포함)
+    //            to   (required, yyyy-MM-dd, 제외)   // 최대 100일
+    // 4. 설명 : 캘린더 화면에 보이는 구간(월/주)의 일정을 날짜별로 묶어 반환
+    //          화면은 받은 날짜를 캐시하고 앞/뒤 같은 길이 구간을 미리 읽음
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/calendar")
+    public AsCalendarDto getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return asCalendarService.range(from, to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     //========================================================================
@@ -91,7 +282,13 @@ public class AsRestController {
     //            - scheduleList[] (optional, AsScheduleDto)
     // 4. 설명 : AS 접수글 등록
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 건수 캐시 무효화
+    //         agent(26.10.17) AS 상태 프로젝션 갱신(같은 트랜잭션)
+    //         agent(26.10.17) 자유검색 재색인(커밋 후)
+    //         agent(26.10.17) 자식 행 일괄 등록
+    //         agent(26.10.17) 데이터 버전(ETag) 증가
+    //         agent(26.10.17) 사실 큐브 갱신(커밋 후)
+    //         agent(26.10.17) 일별 롤업 가산(등록 후)
     //========================================================================
     @Transactional(rollbackFor = Exception.class)
     @PostMapping("/write")
@@ -102,22 +299,15 @@ public class AsRestController {
         Long asId = dto.getAsId();
         if (asId == null) throw new IllegalStateException("AS ID 생성 실패");
 
-        if (dto.getEquipList() != null) {
-            for (AsEquipDto equip : dto.getEquipList()) {
-                equip.setAsId(asId);
-                equip.setUseFlag(true);
-                asMapper.insertAsEquip(equip);
-            }
-        }
-
-        if (dto.getScheduleList() != null) {
-            for (AsScheduleDto schedule : dto.getScheduleList()) {
-                schedule.setAsId(asId);
-                schedule.setUseFlag(true);
-                asMapper.insertSchedule(schedule);
-            }
-        }
+        asChildWriter.insertEquips(asId, dto.getEquipList());       // 다중 VALUES 일괄 등록
+        asChildWriter.insertSchedules(asId, dto.getScheduleList());
 
+        asStatusService.refresh(asId);           // 상태 프로젝션 동기 갱신
+        dashDailyStatService.afterChange(List.of(asId));
+        asSearchIndex.reindexAfterCommit(asId);
+        dashFactCube.refreshAfterCommit(List.of(asId));
+        listCountCache.invalidateAfterCommit();
+        asDataVersion.bumpAfterCommit();
         return ResponseEntity.ok(asId);
     }
 
@@ -130,7 +320,14 @@ public class AsRestController {
     //            - deletedFileIds[] (optional)
     // 4. 설명 : AS 접수글 수정
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 건수 캐시 무효화
+    //         agent(26.10.17) AS 상태 프로젝션 갱신(같은 트랜잭션)
+    //         agent(26.10.17) 자유검색 재색인(커밋 후)
+    //         agent(26.10.17) 장비/일정 변경분만 반영
+    //         agent(26.10.17) 상세 캐시 무효화
+    //         agent(26.10.17) 데이터 버전(ETag) 증가
+    //         agent(26.10.17) 사실 큐브 갱신(커밋 후)
+    //         agent(26.10.17) 일별 롤업 차감(수정 전)/가산(수정 후)
     //========================================================================
     @Transactional(rollbackFor = Exception.class)
     @PutMapping("/edit")
@@ -146,31 +343,25 @@ public class AsRestController {
             }
         }
 
+        dashDailyStatService.beforeChange(List.of(dto.getAsId())); // 변경 전 기여분 차감
         asMapper.updateAsHeader(dto);
 
-        asMapper.deleteEquipHardByAsId(dto.getAsId());
-        if (dto.getEquipList() != null) {
-            for (AsEquipDto equip : dto.getEquipList()) {
-                equip.setAsId(dto.getAsId());
-                equip.setUseFlag(true);
-                asMapper.insertAsEquip(equip);
-            }
-        }
-
-        asMapper.deleteScheduleByAsId(dto.getAsId());
-        if (dto.getScheduleList() != null) {
-            for (AsScheduleDto s : dto.getScheduleList()) {
-                s.setAsId(dto.getAsId());
-                s.setUseFlag(true);
-                asMapper.insertSchedule(s);
-            }
-        }
+        // 기존 행과 비교해 바뀐 장비/일정만 삭제·수정·등록 (일정 ID 유지)
+        asChildWriter.reconcileEquips(dto.getAsId(), dto.getEquipList());
+        asChildWriter.reconcileSchedules(dto.getAsId(), dto.getScheduleList());
 
         if (dto.getDeletedFileIds() != null && !dto.getDeletedFileIds().isEmpty()) {
             asMapper.deleteFilesByIdsHard(dto.getDeletedFileIds());
             storage.deleteAfterCommit(toDeleteAfterCommit); // ✅ 커밋 후 물리 삭제
         }
 
+        asStatusService.refresh(dto.getAsId());  // 상태 프로젝션 동기 갱신
+        dashDailyStatService.afterChange(List.of(dto.getAsId()));
+        asSearchIndex.reindexAfterCommit(dto.getAsId());
+        dashFactCube.refreshAfterCommit(List.of(dto.getAsId()));
+        asDetailCache.invalidateAfterCommit(dto.getAsId());
+        listCountCache.invalidateAfterCommit();
+        asDataVersion.bumpAfterCommit();
         return ResponseEntity.ok().build();
     }
 
@@ -180,7 +371,13 @@ public class AsRestController {
     // 3. Param : asId
     // 4. 설명 : AS 접수글 논리 삭제
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 건수 캐시 무효화
+    //         agent(26.10.17) AS 상태 프로젝션 갱신(같은 트랜잭션)
+    //         agent(26.10.17) 자유검색 재색인(커밋 후)
+    //         agent(26.10.17) 상세 캐시 무효화
+    //         agent(26.10.17) 데이터 버전(ETag) 증가
+    //         agent(26.10.17) 사실 큐브 갱신(커밋 후)
+    //         agent(26.10.17) 일별 롤업 차감(삭제 전)
     //========================================================================
     @Transactional(rollbackFor = Exception.class)
     @DeleteMapping("/delete/{asId}")
@@ -188,10 +385,17 @@ public class AsRestController {
         // ⚠️ 현재는 물리 파일은 그대로 남김(주석 설명대로). 필요 시:
         // 1) asMapper.selectFilesByAsId(asId)로 목록 조회
         // 2) toAbsoluteDirFromPublicPath + afterCommit에서 파일 일괄 삭제
+        dashDailyStatService.beforeChange(List.of(asId)); // 삭제 전 기여분 차감 (삭제 후 더할 것 없음)
         asMapper.deleteAsEquipByAsId(asId);
         asMapper.deleteAsFilesByAsId(asId);
         asMapper.deleteScheduleByAsIdSoft(asId);
         asMapper.deleteAsHeader(asId);
+        asStatusService.refresh(asId);           // 삭제된 AS 는 프로젝션 행 제거
+        asSearchIndex.reindexAfterCommit(asId);
+        dashFactCube.refreshAfterCommit(List.of(asId));
+        asDetailCache.invalidateAfterCommit(asId);
+        listCountCache.invalidateAfterCommit();
+        asDataVersion.bumpAfterCommit();
         return ResponseEntity.ok().build();
     }
 
@@ -201,7 +405,10 @@ public class AsRestController {
     // 3. Param : asId, files
     // 4. 설명 : 파일 업로드
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 자식 행 일괄 등록
+    //         agent(26.10.17) 상세 캐시 무효화
+    //         agent(26.10.17) 헤더 수정일시 갱신
+    //         agent(26.10.17) 데이터 버전(ETag) 증가
     //========================================================================
     @Transactional(rollbackFor = Exception.class)
     @PostMapping("/file/upload")
@@ -214,6 +421,7 @@ public class AsRestController {
         // "as/<오늘>" 구조로 저장되도록 서비스가 날짜 샤딩까지 처리함
         List<SavedFile> saved = storage.saveAll(files, "as");
 
+        List<AsFileDto> rows = new ArrayList<>(saved.size());
         for (SavedFile sf : saved) {
             AsFileDto dto = new AsFileDto();
             dto.setAsId(asId);
@@ -223,18 +431,46 @@ public class AsRestController {
             dto.setFileSize((int)Math.min(sf.getSize(), Integer.MAX_VALUE)); // ⚠ int DTO라 캐스팅
             dto.setFileType(sf.getContentType());
             dto.setUseFlag(true);
-            asMapper.insertAsFile(dto);
+            rows.add(dto);
         }
+        asChildWriter.insertFiles(rows);
+        asMapper.touchAsHeaders(List.of(asId));   // 변경분 조회에 잡히도록
+        asDetailCache.invalidateAfterCommit(asId);
+        asDataVersion.bumpAfterCommit();
         return ResponseEntity.ok("파일 업로드 완료");
     }
 
+    //========================================================================
+    // 1. AS 일괄 등록 API
+    // 2. URL : [POST]{...}/as/import
+    // 3. Param : file (required, .xlsx / .csv)
+    // 4. 설명 : 엑셀/CSV 1행 = AS 1건 일괄 등록. 100건 단위 트랜잭션이라 메서드 트랜잭션 없음
+    //          실패 행은 건너뛰고 행 번호/사유를 결과에 담아 반환
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @PostMapping("/import")
+    public ResponseEntity<AsImportReportDto> importAs(@RequestParam("file") MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "file is required");
+        }
+        try {
+            return ResponseEntity.ok(asImportService.importFile(file));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     //========================================================================
     // 1. AS 상세 페이지 완료 처리 API
     // 2. URL : [PATCH]{...}/as/schedule/{scheduleId}/complete
     // 3. Param : scheduleId, payload(AsScheduleDto)
     // 4. 설명 : AS 상세 페이지 일정 완료 버튼
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) 건수 캐시 무효화
+    //         agent(26.10.17) 상세 캐시 무효화
+    //         agent(26.10.17) 헤더 수정일시 갱신
+    //         agent(26.10.17) 데이터 버전(ETag) 증가
     //========================================================================
     @Transactional(rollbackFor = Exception.class)
     @PatchMapping("/schedule/{scheduleId}/complete")
@@ -251,9 +487,238 @@ public class AsRestController {
 
         // PLAN/CONTENT/HOLD는 클라이언트 원본 유지
         asMapper.updateSchedule(payload);
+        Long asId = asStatusService.refreshBySchedule(scheduleId);
+        if (asId != null) asMapper.touchAsHeaders(List.of(asId));
+        asDetailCache.invalidateAfterCommit(asId);
+        listCountCache.invalidateAfterCommit();
+        asDataVersion.bumpAfterCommit();
 
         String nowStr = payload.getCompleteDate()
                 .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         return ResponseEntity.ok(Map.of("completeDate", nowStr));
     }
-}
\ No newline at end of file
+
+    //========================================================================
+    // 1. 일정 일괄 완료/예정일 변경 API
+    // 2. URL : [PATCH]{...}/as/schedule/bulk
+    // 3. Param : dto(body, required, AsScheduleBulkDto)
+    //            - items[] (1~500건) : scheduleId, complete(true → 서버 시각 완료), planDate(새 예정일)
+    // 4. 설명 : 여러 AS 의 일정을 한 번의 요청/트랜잭션으로 처리, 항목별 결과 반환
+    //          잘못된/없는 ID 는 해당 항목만 INVALID/NOT_FOUND 로 표시하고 나머지는 반영
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @PatchMapping("/schedule/bulk")
+    public AsScheduleBulkResultDto bulkUpdateSchedules(@RequestBody AsScheduleBulkDto dto) {
+        if (dto.getItems() == null || dto.getItems().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "items is required");
+        }
+        if (dto.getItems().size() > AsScheduleService.MAX_BULK_ITEMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "items must be 1~" + AsScheduleService.MAX_BULK_ITEMS);
+        }
+        return asScheduleService.applyBulk(dto.getItems());
+    }
+
+    //========================================================================
+    // 1. 일정 엑셀 내보내기 작업 등록 API
+    // 2. URL : [POST]{...}/api/as/export/schedule
+    // 3. Param : /as/schedule/export 와 동일한 필터(q, farms, types, tables, equipName, completion,
+    //            period, startDate, endDate, sortField, sortDir), cols
+    // 4. 설명 : 파일을 바로 내려주지 않고 작업 ID 반환(202). 같은 조건의 진행 중/완료 작업이 있으면 그 작업 반환
+    //          대기열이 가득 차면 503
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @PostMapping("/export/schedule")
+    public ResponseEntity<AsExportJobDto> submitScheduleExport(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String completion,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String cols) {
+        Map<String, Object> params = asExportService.buildScheduleParams(
+                q, farms, types, tables, equipName, completion, period, startDate, endDate, sortField, sortDir);
+        List<String> colKeys = asExportService.resolveColumns(cols);
+        try {
+            return ResponseEntity.accepted().body(asExportJobService.submitSchedule(params, colKeys));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    //========================================================================
+    // 1. AS 목록 엑셀 내보내기 작업 등록 API
+    // 2. URL : [POST]{...}/api/as/export/list
+    // 3. Param : /as/list 와 동일한 필터(q, farms, types, statuses, tables, equipName,
+    //            period, dateBy, startDate, endDate, sortField, sortDir)
+    // 4. 설명 : 목록 화면 조건 그대로 전체 AS 를 한 시트로 생성하는 작업 등록(202), 대기열 초과 시 503
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @PostMapping("/export/list")
+    public ResponseEntity<AsExportJobDto> submitListExport(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String asStatus,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "plan") String dateBy) {
+        Map<String, Object> params = asListService.buildListParams(
+                keyword, asStatus, startDate, endDate, sortField, sortDir,
+                farms, types, statuses, tables, equipName, period, q, dateBy);
+        try {
+            return ResponseEntity.accepted().body(asExportJobService.submitAsList(params));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    //========================================================================
+    // 1. 내보내기 작업 진행 상태 API
+    // 2. URL : [GET]{...}/api/as/export/jobs/{jobId}
+    // 3. Param : jobId (required)
+    // 4. 설명 : status(QUEUED/RUNNING/DONE/FAILED), rowsWritten, 완료 시 downloadUrl 반환
+    //          없는/만료된 작업은 404
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/export/jobs/{jobId}")
+    public AsExportJobDto getExportJob(@PathVariable String jobId) {
+        AsExportJobDto job = asExportJobService.status(jobId);
+        if (job == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "export job not found");
+        return job;
+    }
+
+    //========================================================================
+    // 1. 내보내기 결과 파일 다운로드 API
+    // 2. URL : [GET]{...}/api/as/export/jobs/{jobId}/file
+    // 3. Param : jobId (required)
+    // 4. 설명 : 완료된 파일을 디스크에서 그대로 전송, 아직 생성 중이면 409, 없는/만료된 작업은 404
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @GetMapping("/export/jobs/{jobId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId) {
+        AsExportJobDto job = asExportJobService.status(jobId);
+        if (job == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "export job not found");
+        Path file = asExportJobService.fileOf(jobId);
+        if (file == null) throw new ResponseStatusException(HttpStatus.CONFLICT, "export job is " + job.getStatus());
+
+        String fname = URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8).replace("+", "%20");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fname)
+                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(new FileSystemResource(file));
+    }
+
+    //========================================================================
+    // 1. 일정 행 CSV/NDJSON 스트리밍 API
+    // 2. URL : [GET]{...}/api/as/export/schedule?format=csv|ndjson
+    // 3. Param : /as/schedule/export 와 동일한 필터, cols, format (required)
+    //            bom (optional, default=false) // CSV 를 엑셀에서 바로 열 때만 true
+    // 4. 설명 : BI 적재용. DB Cursor → 응답 스트림으로 한 행씩 기록 (서버 메모리/임시파일 없음)
+    //          Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축해 전송
+    //          CSV 기본은 BOM 없는 UTF-8 (적재 도구가 첫 컬럼명에 BOM 을 붙여 읽지 않도록)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) CSV BOM 을 선택(bom=true)으로 변경
+    //========================================================================
+    @GetMapping("/export/schedule")
+    public ResponseEntity<StreamingResponseBody> streamSchedule(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String completion,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String cols,
+            @RequestParam String format,
+            @RequestParam(defaultValue = "false") boolean bom,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        AsTextExportService.Format f = textFormat(format);
+        Map<String, Object> params = asExportService.buildScheduleParams(
+                q, farms, types, tables, equipName, completion, period, startDate, endDate, sortField, sortDir);
+        List<String> colKeys = asExportService.resolveColumns(cols);
+        return textStream("schedule", f, acceptEncoding,
+                out -> asTextExportService.writeSchedule(params, colKeys, f, bom, out));
+    }
+
+    //========================================================================
+    // 1. AS 목록 CSV/NDJSON 스트리밍 API
+    // 2. URL : [GET]{...}/api/as/export/list?format=csv|ndjson
+    // 3. Param : /as/list 와 동일한 필터(q, farms, types, statuses, tables, equipName,
+    //            period, dateBy, startDate, endDate, sortField, sortDir), format (required)
+    //            bom (optional, default=false) // CSV 를 엑셀에서 바로 열 때만 true
+    // 4. 설명 : 목록 조건 그대로 전체 AS 를 한 행씩 스트리밍, gzip/BOM 처리는 일정과 동일
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) CSV BOM 을 선택(bom=true)으로 변경
+    //========================================================================
+    @GetMapping("/export/list")
+    public ResponseEntity<StreamingResponseBody> streamList(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String asStatus,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String farms,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String tables,
+            @RequestParam(required = false) String equipName,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "plan") String dateBy,
+            @RequestParam String format,
+            @RequestParam(defaultValue = "false") boolean bom,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        AsTextExportService.Format f = textFormat(format);
+        Map<String, Object> params = asListService.buildListParams(
+                keyword, asStatus, startDate, endDate, sortField, sortDir,
+                farms, types, statuses, tables, equipName, period, q, dateBy);
+        return textStream("as_list", f, acceptEncoding,
+                out -> asTextExportService.writeAsList(params, f, bom, out));
+    }
+
+    private static AsTextExportService.Format textFormat(String format) {
+        AsTextExportService.Format f = AsTextExportService.Format.of(format);
+        if (f == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        return f;
+    }
+
+    // 응답 헤더 + (필요 시) gzip 래핑. 압축은 요청마다 응답 스트림 위에서 바로 수행
+    private static ResponseEntity<StreamingResponseBody> textStream(String baseName, AsTextExportService.Format f,
+                                                                   String acceptEncoding, StreamingResponseBody body) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody stream = !gzip ? body : out -> {
+            GZIPOutputStream gz = new GZIPOutputStream(out, 16 * 1024);
+            body.writeTo(gz);
+            gz.finish();
+        };
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + baseName + "." + f.extension)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(f.contentType));
+        if (gzip) res.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return res.body(stream);
+    }
+}
@@ -1,11 +1,15 @@
 package com.inpro.asBoard.as.controller;
 
 import com.inpro.asBoard.as.dto.*;
-import com.inpro.asBoard.as.mapper.DashMapper;
+import com.inpro.asBoard.as.service.DashBundleService;
 import com.inpro.asBoard.as.service.DashService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -14,8 +18,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DashRestController {
 
-    private final DashMapper dashMapper;
     private final DashService dashService;
+    private final DashBundleService dashBundleService;
 
     //========================================================================
     // 1. 문제유형 요약 지표
@@ -224,14 +228,59 @@ public class DashRestController {
     //========================================================================
     // 1. 지역별 AS 건수 조회
     // 2. URL   : [GET] /api/dash/geo/sido
-    // 3. Param :
-    // 4. 설명  : 지역별 AS 건수 조회
+    // 3. Param : from   (optional, yyyy-MM-dd)  // 접수일 시작(포함)
+    //            to     (optional, yyyy-MM-dd)  // 접수일 끝(포함)
+    //            status (optional, string)      // 보류|대기|임박|진행중|지연|완료
+    // 4. 설명  : 시도별 AS 건수 [{sido:"경기", sidoCode:"KR-41", as_cnt:123}, ...]
     // 5. 작성  : wjlee(25.09.01)
-    // 6. 수정  :
+    // 6. 수정  : agent(26.10.17) 시도 매핑 캐시 사용 / 기간·상태 필터
     //========================================================================
-    @ResponseBody
     @GetMapping("/geo/sido")
-    public List<Map<String,Object>> sidoCounts() {
-        return dashMapper.selectSidoCounts(); // [{sido:"경기", as_cnt:123}, ...]
+    public List<Map<String,Object>> sidoCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status) {
+        return dashService.getSidoCounts(from, to, status);
+    }
+
+    //========================================================================
+    // 1. 시도별 농장 건수
+    // 2. URL   : [GET] /api/dash/geo/sido/{sido}/farms
+    // 3. Param : sido (path, 약칭 또는 KR-xx 코드)
+    //            from / to / status (optional, /geo/sido 와 같음)
+    // 4. 설명  : 지도에서 고른 시도의 농장별 AS 건수 (건수 desc)
+    // 5. 작성  : agent(26.10.17)
+    // 6. 수정  :
+    //========================================================================
+    @GetMapping("/geo/sido/{sido}/farms")
+    public List<DashAggregateItemDto> sidoFarms(
+            @PathVariable String sido,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status) {
+        return dashService.getSidoFarms(sido, from, to, status);
+    }
+
+    //========================================================================
+    // 1. 위젯 묶음 조회
+    // 2. URL   : [POST] /api/dash/bundle
+    // 3. Param : body (required, [{id, type, params}], 최대 32건)
+    //            type   = 위 단건 API 경로 (summary|monthly|upcoming|aggregate|farm/category|timeSeries|geo/sido ...)
+    //            params = 해당 API 쿼리 파라미터 (값은 문자열)
+    // 4. 설명  : 위젯을 병렬 평가해 { id: {type, status, data, error, elapsedMs} } 한 문서로 반환
+    //            위젯 단위 실패는 status=ERROR|TIMEOUT 로 표시 (응답은 200)
+    // 5. 작성  : agent(26.10.17)
+    // 6. 수정  :
+    //========================================================================
+    @PostMapping("/bundle")
+    public Map<String, DashWidgetResultDto> bundle(@RequestBody List<DashWidgetSpecDto> specs) {
+        if (specs == null || specs.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "widgets are required");
+        }
+        if (specs.size() > DashBundleService.MAX_WIDGETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "too many widgets (max " + DashBundleService.MAX_WIDGETS + ")");
+        }
+        return dashBundleService.evaluate(specs);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class AsCalendarDto {
+    /** 조회 구간 [from, to) */
+    private LocalDate from;
+    private LocalDate to;
+
+    /**
+     * 날짜 → 그날 일정 (예정일시 순)
+     * - 구간 안 모든 날짜가 키로 들어감 (일정 없는 날은 빈 목록) → 클라이언트가 받은 날짜를 그대로 캐시
+     */
+    private Map<LocalDate, List<AsScheduleDto>> days = new LinkedHashMap<>();
+
+    /** 구간에 나온 농장코드 → 색상 인덱스(0~19), 구간과 무관하게 같은 농장은 같은 색 */
+    private Map<String, Integer> farmColors = new LinkedHashMap<>();
+}
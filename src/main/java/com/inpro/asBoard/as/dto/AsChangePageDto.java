@@ -0,0 +1,18 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class AsChangePageDto {
+    /** 바뀐(또는 새) AS - 헤더 + equipList/fileList/scheduleList 전체, 클라이언트는 AS 단위로 통째 교체 */
+    private List<AsDto> items = new ArrayList<>();
+    /** 삭제된 AS ID (tombstone) */
+    private List<Long> deletedIds = new ArrayList<>();
+    /** 다음 호출의 since 값 (변경이 없으면 요청 값 그대로) */
+    private String nextCursor;
+    /** true 면 바로 이어서 다시 호출 */
+    private boolean hasMore;
+}
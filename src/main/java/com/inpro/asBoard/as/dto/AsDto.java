@@ -1,5 +1,6 @@
 package com.inpro.asBoard.as.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.inpro.asBoard.as.common.CustomBooleanDeserializer;
 import lombok.Data;
@@ -49,4 +50,11 @@ public class AsDto {
 
     private List<Long> deletedFileIds;
 
+    // 목록 조회 시 필터 전체 건수 (COUNT(*) OVER, withTotal=true 일 때만)
+    private Integer totalCount;
+
+    // 변경분 조회 시 헤더 ROW_VER (커서 생성용, 응답 미포함)
+    @JsonIgnore
+    private Long changeVer;
+
 }
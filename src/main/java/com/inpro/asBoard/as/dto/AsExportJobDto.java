@@ -0,0 +1,26 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AsExportJobDto {
+    private String jobId;
+    /** schedule | list */
+    private String kind;
+    /** QUEUED → RUNNING → DONE | FAILED */
+    private String status;
+    /** 지금까지 기록한 행 수 (헤더 제외) */
+    private long rowsWritten;
+    /** 다운로드 파일명 */
+    private String fileName;
+    /** DONE 일 때만 값 있음 */
+    private String downloadUrl;
+    private String error;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    /** 이 시각 이후 파일/작업 삭제 */
+    private LocalDateTime expiresAt;
+}
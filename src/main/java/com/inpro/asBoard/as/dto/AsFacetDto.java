@@ -0,0 +1,23 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class AsFacetDto {
+    /** 현재 필터 전체 건수 (목록 총건수와 동일) */
+    private int total;
+
+    /**
+     * 옵션별 건수 (값 → 건수, 건수 내림차순)
+     * - 각 facet 은 자기 선택만 뺀 나머지 필터 기준 → 체크 시 예상 건수
+     */
+    private Map<String, Integer> statuses;
+    private Map<String, Integer> types;    // 장비/네트워크/모듈 외 값은 '기타'로 합산
+    private Map<String, Integer> tables;
+
+    /** 농장별 건수: farmCode, farmName, count (건수 내림차순) */
+    private List<Map<String, Object>> farms;
+}
@@ -0,0 +1,28 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class AsImportReportDto {
+    /** 데이터 행 수 (헤더/빈 행 제외) */
+    private int total;
+    /** 등록된 AS 수 */
+    private int inserted;
+    /** 실패 행 수 */
+    private int failed;
+    /** 행별 오류 (최대 500건, 초과분은 truncated=true) */
+    private List<RowError> errors = new ArrayList<>();
+    private boolean truncated;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        /** 파일 행 번호 (1부터, 헤더 포함) */
+        private int row;
+        private String message;
+    }
+}
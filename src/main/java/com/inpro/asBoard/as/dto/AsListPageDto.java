@@ -0,0 +1,17 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AsListPageDto {
+    /** 현재 페이지 행 */
+    private List<AsDto> items;
+    /** 페이지 크기 */
+    private int size;
+    /** 다음 페이지 커서 (없으면 null) */
+    private String nextCursor;
+    /** 이전 페이지 커서 (없으면 null) */
+    private String prevCursor;
+}
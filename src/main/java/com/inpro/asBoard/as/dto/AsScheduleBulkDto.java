@@ -0,0 +1,29 @@
+package com.inpro.asBoard.as.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.inpro.asBoard.as.common.CustomBooleanDeserializer;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AsScheduleBulkDto {
+    /** 처리할 일정 (최대 500건, 여러 AS 섞여도 됨) */
+    private List<Item> items;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        private Long scheduleId;
+
+        /** true → 서버 시각으로 완료 처리 (이미 완료된 일정은 기존 완료일 유지) */
+        @JsonDeserialize(using = CustomBooleanDeserializer.class)
+        private Boolean complete;
+
+        /** 새 예정일 (null 이면 변경 안 함) */
+        private LocalDateTime planDate;
+    }
+}
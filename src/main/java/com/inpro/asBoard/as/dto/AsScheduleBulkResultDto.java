@@ -0,0 +1,27 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class AsScheduleBulkResultDto {
+    /** 실제로 값이 바뀐 일정 수 */
+    private int updated;
+    /** 요청 순서 그대로의 항목별 결과 */
+    private List<Item> results = new ArrayList<>();
+
+    @Data
+    public static class Item {
+        private Long scheduleId;
+        private Long asId;
+        /** OK(변경) / UNCHANGED(이미 같은 값) / NOT_FOUND / INVALID */
+        private String result;
+        private String message;
+        /** 처리 후 값 (OK/UNCHANGED 일 때) */
+        private LocalDateTime planDate;
+        private LocalDateTime completeDate;
+    }
+}
@@ -26,6 +26,8 @@ public class AsScheduleRowDto {
     @JsonDeserialize(using = CustomBooleanDeserializer.class)
     private Boolean useFlag;
 
+    private Integer totalCount;       // 필터 전체 건수 (COUNT(*) OVER, withTotal=true 일 때만)
+
     // 출력용
     public String getCompletionLabel() {
         if (completeDate == null) return "미완료";
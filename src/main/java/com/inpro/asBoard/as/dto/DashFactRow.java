@@ -0,0 +1,16 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 대시보드 집계용 사실 행 : (AS, 장비 테이블) 1행, 장비 없는 AS 는 tableName = null 1행
+@Data
+public class DashFactRow {
+    private Long asId;
+    private String farmCode;
+    private String farmName;      // 농장 마스터 없으면 null
+    private String asType;
+    private LocalDateTime regDate;
+    private String tableName;
+}
@@ -0,0 +1,6 @@
+package com.inpro.asBoard.as.dto;
+
+// 4분류 라벨 1행 = [전체, 이번달, 이번주, 오늘] 건수 (한 번의 스캔으로 집계)
+public record DashSummaryScanRow(String statusLabel, int allCnt, int monthCnt, int weekCnt, int todayCnt) {
+
+}
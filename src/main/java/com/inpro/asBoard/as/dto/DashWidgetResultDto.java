@@ -0,0 +1,14 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+@Data
+public class DashWidgetResultDto {
+    private String type;
+    /** OK | ERROR | TIMEOUT */
+    private String status;
+    /** OK 일 때 단건 API 와 같은 응답 본문 */
+    private Object data;
+    private String error;
+    private long elapsedMs;
+}
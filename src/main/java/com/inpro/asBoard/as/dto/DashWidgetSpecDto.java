@@ -0,0 +1,15 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class DashWidgetSpecDto {
+    /** 응답에서 결과를 찾을 키 (생략 시 요청 내 순번) */
+    private String id;
+    /** /api/dash/ 뒤 경로와 같은 이름 (예: summary, aggregate, farm/category, timeSeries, geo/sido) */
+    private String type;
+    /** 해당 단건 API 의 쿼리 파라미터와 같은 이름/값 */
+    private Map<String, String> params;
+}
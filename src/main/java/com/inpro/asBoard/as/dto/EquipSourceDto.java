@@ -0,0 +1,16 @@
+package com.inpro.asBoard.as.dto;
+
+import lombok.Data;
+
+@Data
+public class EquipSourceDto {
+    private String tableName; // 장비 테이블명
+    private String subCol;    // 하위 키 컬럼 (SUB_SEQ 로 조회)
+    private String nameCol;   // 장비명 컬럼
+    private String dateCol;   // 사용일시 컬럼 (없으면 null)
+
+    // 사용일시 컬럼이 없는 테이블은 NULL 일시로 대체 (MAX/SELECT 공통)
+    public String getDateExpr() {
+        return dateCol != null ? dateCol : "CAST(NULL AS DATETIME)";
+    }
+}
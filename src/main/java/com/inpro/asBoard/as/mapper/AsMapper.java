@@ -3,7 +3,10 @@ package com.inpro.asBoard.as.mapper;
 import com.inpro.asBoard.as.dto.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,23 +31,61 @@ public interface AsMapper {
     //========================================================================
     List<Map<String, String>> searchFarmList(@Param("keyword") String keyword);
 
+    //========================================================================
+    // 1. 농가 목록 변경 확인
+    // 2. Param :
+    // 3. 설명 : 전체 건수 + 최종 수정일시 (농장 디렉터리 캐시 재적재 판단용)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    Map<String, Object> selectFarmDirectoryVersion();
+
     //========================================================================
     // 1. 농가 장비 테이블 조회
-    // 2. Param : farmCode
+    // 2. Param : farmCode, sources (장비 테이블 메타)
     // 3. 설명 : 해당 농가에 데이터가 존재하는 장비 테이블명을 문자열로 반환
     // 4. 작성 : wjlee(25.09.01)
+    // 5. 수정 : agent(26.10.17) 장비 테이블 레지스트리 기반으로 변경
+    //========================================================================
+    List<String> selectCategoryList(@Param("farmCode") String farmCode,
+                                    @Param("sources") List<EquipSourceDto> sources);
+
+    //========================================================================
+    // 1. 장비 테이블 메타 조회
+    // 2. Param :
+    // 3. 설명 : 사용 중인 장비 테이블별 하위 키/장비명/사용일시 컬럼 (테이블명 순)
+    // 4. 작성 : agent(26.10.17)
     // 5. 수정 :
     //========================================================================
-    List<String> selectCategoryList(String farmCode);
+    List<EquipSourceDto> selectEquipSources();
 
     //========================================================================
     // 1. 농가 등록 장비 목록 조회
-    // 2. Param : farmCode
+    // 2. Param : src (장비 테이블 메타), farmCode
     // 3. 설명 : 해당 농가에 등록된 장비 목록 조회
     // 4. 작성 : wjlee(25.09.01)
+    // 5. 수정 : agent(26.10.17) 장비 테이블 레지스트리 기반으로 변경
+    //========================================================================
+    List<Map<String, Object>> selectEquipmentListByTable(@Param("src") EquipSourceDto src,
+                                                         @Param("farmCode") String farmCode);
+
+    //========================================================================
+    // 1. 장비 테이블 변경 확인
+    // 2. Param : src (장비 테이블 메타)
+    // 3. 설명 : 전체 건수 + 최종 사용일시 (장비 보유 색인 테이블 단위 갱신 판단용)
+    // 4. 작성 : agent(26.10.17)
     // 5. 수정 :
     //========================================================================
-    List<Map<String, Object>> selectEquipmentListByTable(Map<String, Object> param);
+    Map<String, Object> selectEquipTableVersion(@Param("src") EquipSourceDto src);
+
+    //========================================================================
+    // 1. 장비 테이블 보유 농가 코드 조회
+    // 2. Param : src (장비 테이블 메타)
+    // 3. 설명 : 해당 장비 테이블에 행이 있는 농가 코드 목록
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<String> selectFarmCodesByEquipTable(@Param("src") EquipSourceDto src);
 
     //========================================================================
     // 1. AS 접수 등록
@@ -64,6 +105,15 @@ public interface AsMapper {
     //========================================================================
     void insertAsEquip(AsEquipDto equip);
 
+    //========================================================================
+    // 1. AS 장비 일괄 등록
+    // 2. Param : list (AsEquipDto, 최대 200건)
+    // 3. 설명 : 다중 VALUES 1회 실행 (분할은 AsChildWriter)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void insertAsEquipBatch(@Param("list") List<AsEquipDto> list);
+
     //========================================================================
     // 1. AS 접수 수정
     // 2. Param : dto(body, required, AsDto)
@@ -82,6 +132,26 @@ public interface AsMapper {
     //========================================================================
     AsDto selectAsDetail(Long asId);
 
+    //========================================================================
+    // 1. AS 상세 + 장비/첨부/일정 일괄 조회
+    // 2. Param : asId
+    // 3. 설명 : 상세/수정 화면용. 헤더와 자식 목록 3종을 1회 왕복으로 조회 (중첩 resultMap)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    AsDto selectAsDetailFull(Long asId);
+
+    //========================================================================
+    // 1. AS 변경분 조회 (델타 동기화)
+    // 2. Param : sinceVer (헤더 ROW_VER, null=최초), limit
+    // 3. 설명 : ROW_VER 커서 이후 커밋된 변경 AS 를 자식 목록째 limit 건 (AsDto.changeVer 에 버전)
+    //          sinceVer 가 있으면 논리삭제(useFlag=false) 행도 포함
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 : agent(26.10.17) UPD_DATE 커서 → ROW_VER 커서
+    //========================================================================
+    List<AsDto> selectAsChanges(@Param("sinceVer") Long sinceVer,
+                                @Param("limit") int limit);
+
     //========================================================================
     // 1. AS 장비 목록 조회
     // 2. Param : asId
@@ -96,9 +166,18 @@ public interface AsMapper {
     // 2. Param : asId
     // 3. 설명 : 접수 내역 논리 삭제
     // 4. 작성 : wjlee(25.09.01)
+    // 5. 수정 : agent(26.10.17) 헤더 수정일시 갱신
+    //========================================================================
+    void deleteAsHeader(Long asId);         // USE_FLAG = '0', UPD_DATE = 현재
+
+    //========================================================================
+    // 1. 접수 수정일시 갱신
+    // 2. Param : asIds (최대 200건)
+    // 3. 설명 : 일정/첨부만 바뀐 경우에도 헤더 UPD_DATE 를 올려 변경분 조회에 잡히게 함
+    // 4. 작성 : agent(26.10.17)
     // 5. 수정 :
     //========================================================================
-    void deleteAsHeader(Long asId);         // USE_FLAG = '0'
+    int touchAsHeaders(@Param("asIds") List<Long> asIds);
 
     //========================================================================
     // 1. AS 장비 삭제
@@ -118,6 +197,15 @@ public interface AsMapper {
     //========================================================================
     void deleteEquipHardByAsId(Long asId);
 
+    //========================================================================
+    // 1. AS 장비 선택 삭제
+    // 2. Param : asId, ids (AS_EQUIP_ID, 최대 200건)
+    // 3. 설명 : 수정 시 빠진 장비만 삭제
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void deleteEquipByIds(@Param("asId") Long asId, @Param("ids") List<Long> ids);
+
     //========================================================================
     // 1. AS 일정 삭제
     // 2. Param : asId
@@ -136,6 +224,15 @@ public interface AsMapper {
     //========================================================================
     void deleteScheduleByAsId(Long asId);
 
+    //========================================================================
+    // 1. AS 일정 선택 삭제
+    // 2. Param : asId, ids (SCHEDULE_ID, 최대 200건)
+    // 3. 설명 : 수정 시 빠진 일정만 삭제
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void deleteScheduleByIds(@Param("asId") Long asId, @Param("ids") List<Long> ids);
+
     //========================================================================
     // 1. AS 일정 등록
     // 2. Param : schedule(AsScheduleDto)
@@ -145,6 +242,15 @@ public interface AsMapper {
     //========================================================================
     void insertSchedule(AsScheduleDto schedule);
 
+    //========================================================================
+    // 1. AS 일정 일괄 등록
+    // 2. Param : list (AsScheduleDto, 최대 200건)
+    // 3. 설명 : 다중 VALUES 1회 실행 (분할은 AsChildWriter)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void insertScheduleBatch(@Param("list") List<AsScheduleDto> list);
+
     //========================================================================
     // 1. AS 일정 수정
     // 2. Param : schedule(AsScheduleDto)
@@ -154,6 +260,42 @@ public interface AsMapper {
     //========================================================================
     void updateSchedule(AsScheduleDto schedule);
 
+    //========================================================================
+    // 1. AS 일정 일괄 수정
+    // 2. Param : asId, list (AsScheduleDto, 최대 200건)
+    // 3. 설명 : 변경된 일정만 CASE 식 UPDATE 1회로 반영
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void updateScheduleBatch(@Param("asId") Long asId, @Param("list") List<AsScheduleDto> list);
+
+    //========================================================================
+    // 1. 일정 다건 조회 (ID 목록)
+    // 2. Param : ids (SCHEDULE_ID, 최대 200건)
+    // 3. 설명 : 일정 일괄 처리 전 현재 값 확인 (삭제된 일정/AS 제외)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<AsScheduleDto> selectSchedulesByIds(@Param("ids") List<Long> ids);
+
+    //========================================================================
+    // 1. 일정 일괄 완료
+    // 2. Param : ids (SCHEDULE_ID, 최대 200건), completeDate
+    // 3. 설명 : 미완료 일정의 COMPLETE_DATE 만 세팅 (다른 컬럼은 건드리지 않음)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int completeSchedules(@Param("ids") List<Long> ids, @Param("completeDate") LocalDateTime completeDate);
+
+    //========================================================================
+    // 1. 일정 예정일 일괄 변경
+    // 2. Param : list (AsScheduleDto - scheduleId/planDate, 최대 200건)
+    // 3. 설명 : PLAN_DATE 만 CASE 식 UPDATE 1회로 반영
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int updateSchedulePlanDates(@Param("list") List<AsScheduleDto> list);
+
     //========================================================================
     // 1. 접수 일정 목록 조회
     // 2. Param : asId
@@ -164,13 +306,13 @@ public interface AsMapper {
     List<AsScheduleDto> selectScheduleListByAsId(Long asId);
 
     //========================================================================
-    // 1. 전체 일정 목록 조회
-    // 2. Param :
-    // 3. 설명 : 전체 일정 목록 조회
+    // 1. 기간 일정 목록 조회 (캘린더)
+    // 2. Param : from (포함), to (제외)
+    // 3. 설명 : PLAN_DATE 범위 조회, 예정일시 순
     // 4. 작성 : wjlee(25.09.01)
-    // 5. 수정 :
+    // 5. 수정 : agent(26.10.17) 기간 범위 조회
     //========================================================================
-    List<AsScheduleDto> selectAllForSchedule();
+    List<AsScheduleDto> selectScheduleRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     //========================================================================
     // 1. 첨부파일 등록
@@ -181,6 +323,15 @@ public interface AsMapper {
     //========================================================================
     void insertAsFile(AsFileDto file);
 
+    //========================================================================
+    // 1. 첨부파일 일괄 등록
+    // 2. Param : list (AsFileDto, 최대 200건)
+    // 3. 설명 : 다중 VALUES 1회 실행 (분할은 AsChildWriter)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    void insertAsFileBatch(@Param("list") List<AsFileDto> list);
+
     //========================================================================
     // 1. 접수 글 첨부파일 목록 조회
     // 2. Param : asId
@@ -242,6 +393,15 @@ public interface AsMapper {
     //========================================================================
     List<AsDto> selectAsListFiltered(Map<String, Object> params);
 
+    //========================================================================
+    // 1. AS 접수 목록 엑셀용 조회 (Cursor)
+    // 2. Param(map): selectAsListFiltered 와 동일 + keyset=true, seekAsc, exportAll=true
+    // 3. 설명 : 페이징 없이 목록 정렬 그대로 순회 (트랜잭션 안에서 사용)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    Cursor<AsDto> selectAsListCursorForExport(Map<String, Object> params);
+
     //========================================================================
     // 1. AS 접수 목록 페이징 계산
     // 2. Param(map):
@@ -267,6 +427,16 @@ public interface AsMapper {
     //========================================================================
     int countAsListFiltered(Map<String, Object> params);
 
+    //========================================================================
+    // 1. AS 목록 필터 옵션별 건수(facet) 조회
+    // 2. Param : params (countAsListFiltered 와 동일) + facet(total|status|type|table|farm), farmLimit
+    // 3. 설명 : 목록과 같은 필터 적용 행을 facet 값별 GROUP BY → facetValue, cnt (farm 은 farmName 포함)
+    //          facet 자기 조건은 호출 측에서 비워서 전달
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<Map<String, Object>> selectAsFacetCounts(Map<String, Object> params);
+
     //========================================================================
     // 1. AS 장비 테이블 목록 조회
     // 2. Param:
@@ -339,10 +509,102 @@ public interface AsMapper {
     //      - sortDir     : String (default=asc)
     //      - offset      : int (required)
     //      - size        : int (required)
-    // 3. 설명 : 엑셀 출력 목록 조회
+    // 3. 설명 : 엑셀 출력 목록 조회 (Cursor, 트랜잭션 안에서 순회)
     // 5. 작성 : wjlee(25.09.01)
-    // 6. 수정 :
+    // 6. 수정 : agent(26.10.17) Cursor 스트리밍 출력
+    //========================================================================
+    Cursor<AsScheduleRowDto> selectScheduleRowCursorForExport(@Param("params") Map<String, Object> params);
+
+    //========================================================================
+    // 1. 일정 → AS ID 조회
+    // 2. Param : scheduleId
+    // 3. 설명 : 일정 단건 변경 후 상태 프로젝션 갱신 대상 확인용
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    Long selectAsIdByScheduleId(Long scheduleId);
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 삭제(단건)
+    // 2. Param : asId
+    // 3. 설명 : 갱신 전 기존 행 제거
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int deleteAsStatusByAsId(Long asId);
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 삭제(다건)
+    // 2. Param : asIds (최대 200건)
+    // 3. 설명 : 일정 일괄 처리처럼 여러 AS 가 바뀐 뒤 한 번에 제거 → insertAsStatusMissing(null, asIds)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int deleteAsStatusByAsIds(@Param("asIds") List<Long> asIds);
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 삭제(자정 스윕 대상)
+    // 2. Param :
+    // 3. 설명 : 날짜 경과로 상태/다음 예정일이 바뀌는 행만 제거 (어제 완료일이 지난 일정 포함)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int deleteAsStatusDue();
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 생성(누락분)
+    // 2. Param : asId  (optional)
+    //            asIds (optional, 최대 200건)  // 둘 다 null 이면 프로젝션 행이 없는 전체 AS
+    // 3. 설명 : 일정 집계로 상태/다음 예정일/완료·미완료 수 계산 후 INSERT
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 : agent(26.10.17) asIds 조건 추가
+    //========================================================================
+    int insertAsStatusMissing(@Param("asId") Long asId, @Param("asIds") List<Long> asIds);
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 재계산(AS_ID 구간)
+    // 2. Param : fromAsId, toAsId (required, [from, to))
+    // 3. 설명 : 값이 다른 행만 UPDATE, 없는 행은 INSERT (기동 재구성을 짧은 문장으로 분할)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int mergeAsStatusRange(@Param("fromAsId") long fromAsId, @Param("toAsId") long toAsId);
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 삭제(사용 안 하는 AS, AS_ID 구간)
+    // 2. Param : fromAsId, toAsId (required, [from, to))
+    // 3. 설명 : 사용중 헤더가 없어진 행 제거
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int deleteAsStatusOrphans(@Param("fromAsId") long fromAsId, @Param("toAsId") long toAsId);
+
+    //========================================================================
+    // 1. AS 최대 ID
+    // 2. Param :
+    // 3. 설명 : 구간 재계산 상한 (헤더가 없으면 0)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    long selectMaxAsId();
+
+    //========================================================================
+    // 1. 자유검색 색인 원본 조회 (지정 AS)
+    // 2. Param : asIds (required, 비어있으면 안 됨)
+    // 3. 설명 : q 검색 대상 8개 컬럼(농장명/코드/프로젝트/지역/구분/담당자/요청자/요청내용)
+    //          단건 재색인 / 검색 결과 표시 컬럼 재조회용
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 : agent(26.10.17) asId → asIds
+    //========================================================================
+    List<AsDto> selectAsSearchDocs(@Param("asIds") Collection<Long> asIds);
+
+    //========================================================================
+    // 1. 자유검색 색인 원본 조회 (Cursor)
+    // 2. Param :
+    // 3. 설명 : 사용중 AS 전체 AS_ID 순 순회 (트랜잭션 안에서 사용)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
     //========================================================================
-    List<AsScheduleRowDto> selectScheduleRowListForExport(@Param("params") Map<String, Object> params);
+    Cursor<AsDto> selectAsSearchDocCursor();
 
 }
@@ -5,6 +5,7 @@ import com.inpro.asBoard.as.dto.DashMonthlyStatDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,18 @@ public interface DashMapper {
     //========================================================================
     List<DashSummaryRow> selectStatusCountByPeriod(Map<String, Object> periodParam);
 
+    //========================================================================
+    // 1. 4구간 상태 카운트 (한 번의 스캔)
+    // 2. Param(map) :
+    //      - monthFrom, monthTo : LocalDateTime (required, [from, to))
+    //      - weekFrom,  weekTo  : LocalDateTime (required)
+    //      - dayFrom,   dayTo   : LocalDateTime (required)
+    // 3. 설명 : 4분류 라벨별 [전체/이번달/이번주/오늘] 건수를 조건부 집계로 한 번에 반환
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<DashSummaryScanRow> selectSummaryCounts(Map<String, Object> periodParam);
+
     //========================================================================
     // 1. 범용 집계(TopN)
     // 2. Param :
@@ -171,11 +184,67 @@ public interface DashMapper {
                                                                  @Param("tableName") String tableName);
 
     //========================================================================
-    // 1. 지역별 AS 건수 조회
-    // 2. Param :
-    // 3. 설명 : 지역별 AS 건수 조회
+    // 1. 농장별 AS 건수 조회
+    // 2. Param : fromDate (optional, LocalDateTime), toDate (optional, LocalDateTime)  // REG_DATE [from, to)
+    //            status   (optional, string)  // 상태 프로젝션 라벨
+    // 3. 설명 : 농장코드별 AS 건수(1건이면 firstAsId). 시도 집계/드릴다운은 SidoResolver 로 묶음
     // 4. 작성 : wjlee(25.09.02)
     // 5. 수정 :
     //========================================================================
-    List<Map<String, Object>> selectSidoCounts();
-}
\ No newline at end of file
+    List<DashAggregateItemDto> selectAsCountsByFarm(Map<String, Object> params);
+
+    //========================================================================
+    // 1. 사용 농장 지역명 조회
+    // 2. Param :
+    // 3. 설명 : FARM_CODE, FARM_NAME, REGION_NAME (SidoResolver 적재용)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<Map<String, String>> selectFarmRegions();
+
+    //========================================================================
+    // 1. 대시보드 사실 행 조회
+    // 2. Param : asIds (optional, Collection<Long>)  // null 이면 전체
+    // 3. 설명 : 사용중 AS 헤더 × 사용중 장비 테이블(중복 제거) 행, 장비 없으면 tableName = null
+    //          농장명 포함, AS_ID 순 (DashFactCube 적재용)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    List<DashFactRow> selectDashFacts(@Param("asIds") Collection<Long> asIds);
+
+    //========================================================================
+    // 1. 일별 롤업 가산
+    // 2. Param : asIds (required, Collection<Long>, 최대 200건)
+    // 3. 설명 : 변경 후 해당 AS 의 기여분(일 × 농장 × 장비 × 4분류)을 더함, 없는 칸은 생성
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int mergeDailyStatAdd(@Param("asIds") Collection<Long> asIds);
+
+    //========================================================================
+    // 1. 일별 롤업 차감
+    // 2. Param : asIds (required, Collection<Long>, 최대 200건)
+    // 3. 설명 : 변경 전 해당 AS 의 기여분을 뺌, 0 건이 되는 칸은 삭제
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 :
+    //========================================================================
+    int mergeDailyStatSubtract(@Param("asIds") Collection<Long> asIds);
+
+    //========================================================================
+    // 1. 일별 롤업 전체 보정 (가산/수정)
+    // 2. Param : -
+    // 3. 설명 : 사용중 AS 전체 기여분과 비교해 값이 다른 칸만 UPDATE, 없는 칸 INSERT
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 : agent(26.10.17) 전체 INSERT → 차이분 MERGE
+    //========================================================================
+    int mergeDailyStatAll();
+
+    //========================================================================
+    // 1. 일별 롤업 전체 보정 (삭제)
+    // 2. Param : -
+    // 3. 설명 : 전체 기여분에 없는 칸 삭제 (mergeDailyStatAll 과 같은 트랜잭션)
+    // 4. 작성 : agent(26.10.17)
+    // 5. 수정 : agent(26.10.17) 전체 DELETE → 남은 칸만 DELETE
+    //========================================================================
+    int deleteDailyStatStale();
+}
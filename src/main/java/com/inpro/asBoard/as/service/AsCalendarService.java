@@ -0,0 +1,65 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsCalendarDto;
+import com.inpro.asBoard.as.dto.AsScheduleDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AsCalendarService {
+
+    public static final int MAX_DAYS = 100;      // 월 화면(최대 6주) + 앞뒤 미리 읽기 여유
+    public static final int COLOR_COUNT = 20;    // calendar.html farm-color-0..19
+
+    private final AsMapper asMapper;
+
+    //========================================================================
+    // 1. 기간 일정 조회 (캘린더)
+    // Param : from (required, 포함), to (required, 제외)  // 최대 100일
+    // 설명  : 보이는 구간만 PLAN_DATE 범위 조회(IDX_SCHEDULE_PLAN_DATE) 후
+    //        날짜별 목록으로 한 번에 묶음 → 전체 이력 건수와 무관하게 구간 건수만큼만 비용
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsCalendarDto range(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_DAYS) {
+            throw new IllegalArgumentException("range must be 1~" + MAX_DAYS + " days");
+        }
+
+        AsCalendarDto out = new AsCalendarDto();
+        out.setFrom(from);
+        out.setTo(to);
+        for (LocalDate d = from; d.isBefore(to); d = d.plusDays(1)) {
+            out.getDays().put(d, new ArrayList<>());
+        }
+
+        List<AsScheduleDto> rows = asMapper.selectScheduleRange(from.atStartOfDay(), to.atStartOfDay());
+        for (AsScheduleDto s : rows) {
+            out.getDays().get(s.getPlanDate().toLocalDate()).add(s);
+            if (s.getFarmCode() != null) {
+                String code = s.getFarmCode().trim();
+                if (!code.isEmpty()) out.getFarmColors().computeIfAbsent(code, AsCalendarService::colorOf);
+            }
+        }
+        return out;
+    }
+
+    //========================================================================
+    // 1. 농장 색상 인덱스
+    // Param : farmCode (required, trim 된 값)
+    // 설명  : 농장코드 해시 기반 고정 색 (구간마다 따로 읽어도 같은 농장은 같은 색)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public static int colorOf(String farmCode) {
+        return Math.floorMod(farmCode.hashCode(), COLOR_COUNT);
+    }
+}
@@ -0,0 +1,66 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.common.AsListCursor;
+import com.inpro.asBoard.as.dto.AsChangePageDto;
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AsChangeService {
+
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 500;
+
+    // 목록 커서와 같은 토큰 형식, 정렬필드 자리로 용도 구분
+    private static final String CURSOR_FIELD = "changes";
+
+    private final AsMapper asMapper;
+
+    //========================================================================
+    // 1. 변경분 조회 (델타 동기화)
+    // Param : since (optional, 직전 응답의 nextCursor. 비우면 처음부터 = 전체 동기화)
+    //         size  (required, 1~500)
+    // 설명  : 헤더 ROW_VER(커밋 순서 변경 카운터) 커서 이후 바뀐 AS 를 변경 순으로 반환
+    //        미커밋 트랜잭션보다 앞선 버전까지만 읽으므로 늦게 커밋된 변경도 빠지지 않음
+    //        일정/첨부만 바뀐 경우도 헤더 UPD_DATE 를 같이 올리므로(ROW_VER 증가) AS 단위로 잡힘
+    //        (장비/첨부 테이블은 UPD_DATE 가 없고 수정 시 행이 교체되므로 행 단위 대신 AS 단위)
+    //        논리삭제 AS 는 deletedIds 로만 전달. 상태 라벨(자정 재계산)은 변경으로 보지 않음
+    // 작성  : agent(26.10.17)
+    // 수정  : agent(26.10.17) UPD_DATE + 5초 유예 커서 → ROW_VER 커서 (이전 형식 커서는 400)
+    //========================================================================
+    public AsChangePageDto changesSince(String since, int size) {
+        Long sinceVer = null;
+        if (since != null && !since.isBlank()) {
+            AsListCursor c = AsListCursor.decode(since);
+            if (!CURSOR_FIELD.equals(c.sortField()) || !(c.keyValue() instanceof Number v)) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+            sinceVer = v.longValue();
+        }
+
+        // 1건 더 읽어 다음 페이지 유무 판단
+        List<AsDto> rows = new ArrayList<>(asMapper.selectAsChanges(sinceVer, size + 1));
+        AsChangePageDto page = new AsChangePageDto();
+        page.setHasMore(rows.size() > size);
+        if (page.isHasMore()) rows = rows.subList(0, size);
+
+        for (AsDto as : rows) {
+            if (Boolean.TRUE.equals(as.getUseFlag())) page.getItems().add(as);
+            else page.getDeletedIds().add(as.getAsId());
+        }
+
+        if (rows.isEmpty()) {
+            page.setNextCursor(since == null || since.isBlank() ? null : since);
+        } else {
+            AsDto last = rows.get(rows.size() - 1);
+            page.setNextCursor(new AsListCursor(false, CURSOR_FIELD, "asc", last.getChangeVer(), last.getAsId()).encode());
+        }
+        return page;
+    }
+}
@@ -0,0 +1,172 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsEquipDto;
+import com.inpro.asBoard.as.dto.AsFileDto;
+import com.inpro.asBoard.as.dto.AsScheduleDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class AsChildWriter {
+
+    // 1문 당 행 수 (장비 8컬럼 × 200 = 1,600 파라미터 → MSSQL 2,100개 제한 이내)
+    public static final int CHUNK = 200;
+
+    private final AsMapper asMapper;
+
+    //========================================================================
+    // 1. AS 장비 일괄 등록
+    // Param : asId (required), equipList (optional)
+    // 설명  : asId/사용여부 세팅 후 200건 단위 다중 VALUES INSERT (행마다 왕복하지 않음)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void insertEquips(Long asId, List<AsEquipDto> equipList) {
+        if (equipList == null || equipList.isEmpty()) return;
+        for (AsEquipDto e : equipList) {
+            e.setAsId(asId);
+            e.setUseFlag(true);
+        }
+        insertEquipRows(equipList);
+    }
+
+    //========================================================================
+    // 1. 장비 행 일괄 등록 (여러 AS)
+    // Param : rows (optional, asId/사용여부 세팅 완료)
+    // 설명  : 일괄 등록 시 여러 AS 의 장비를 한 번에 200건 단위 INSERT
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void insertEquipRows(List<AsEquipDto> rows) {
+        if (rows == null || rows.isEmpty()) return;
+        inChunks(rows, asMapper::insertAsEquipBatch);
+    }
+
+    //========================================================================
+    // 1. AS 일정 일괄 등록
+    // Param : asId (required), scheduleList (optional)
+    // 설명  : asId/사용여부 세팅 후 200건 단위 다중 VALUES INSERT
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void insertSchedules(Long asId, List<AsScheduleDto> scheduleList) {
+        if (scheduleList == null || scheduleList.isEmpty()) return;
+        for (AsScheduleDto s : scheduleList) {
+            s.setAsId(asId);
+            s.setUseFlag(true);
+        }
+        insertScheduleRows(scheduleList);
+    }
+
+    //========================================================================
+    // 1. 일정 행 일괄 등록 (여러 AS)
+    // Param : rows (optional, asId/사용여부 세팅 완료)
+    // 설명  : 일괄 등록 시 여러 AS 의 일정을 한 번에 200건 단위 INSERT
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void insertScheduleRows(List<AsScheduleDto> rows) {
+        if (rows == null || rows.isEmpty()) return;
+        inChunks(rows, asMapper::insertScheduleBatch);
+    }
+
+    //========================================================================
+    // 1. 첨부파일 일괄 등록
+    // Param : files (optional, asId 세팅 완료)
+    // 설명  : 200건 단위 다중 VALUES INSERT
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void insertFiles(List<AsFileDto> files) {
+        if (files == null || files.isEmpty()) return;
+        inChunks(files, asMapper::insertAsFileBatch);
+    }
+
+    //========================================================================
+    // 1. AS 장비 변경분 반영
+    // Param : asId (required), incoming (optional, 화면 최종 목록)
+    // 설명  : 기존 행과 장비 키(테이블/SEQ/SUB/KIND/이름/설치일)로 짝지어
+    //        남는 기존 행만 삭제, 짝 없는 요청 행만 일괄 등록 (변경 없으면 쿼리 없음)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void reconcileEquips(Long asId, List<AsEquipDto> incoming) {
+        Map<List<Object>, Deque<Long>> existing = new HashMap<>();
+        for (AsEquipDto e : asMapper.selectEquipListByAsId(asId)) {
+            existing.computeIfAbsent(equipKey(e), k -> new ArrayDeque<>()).add(e.getAsEquipId());
+        }
+
+        List<AsEquipDto> toInsert = new ArrayList<>();
+        if (incoming != null) {
+            for (AsEquipDto e : incoming) {
+                Deque<Long> ids = existing.get(equipKey(e));
+                if (ids != null && !ids.isEmpty()) ids.poll();
+                else toInsert.add(e);
+            }
+        }
+        List<Long> toDelete = new ArrayList<>();
+        existing.values().forEach(toDelete::addAll);
+
+        inChunks(toDelete, ids -> asMapper.deleteEquipByIds(asId, ids));
+        insertEquips(asId, toInsert);
+    }
+
+    //========================================================================
+    // 1. AS 일정 변경분 반영
+    // Param : asId (required), incoming (optional, 화면 최종 목록)
+    // 설명  : SCHEDULE_ID 기준 비교 → 빠진 일정 삭제 / 값이 바뀐 일정만 수정 / ID 없는 일정 등록
+    //        기존 일정 ID 유지. 화면 입력 단위(분)까지 같으면 변경 없음으로 봄
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void reconcileSchedules(Long asId, List<AsScheduleDto> incoming) {
+        Map<Long, AsScheduleDto> existing = new LinkedHashMap<>();
+        for (AsScheduleDto s : asMapper.selectScheduleListByAsId(asId)) existing.put(s.getScheduleId(), s);
+
+        List<AsScheduleDto> toInsert = new ArrayList<>();
+        List<AsScheduleDto> toUpdate = new ArrayList<>();
+        if (incoming != null) {
+            for (AsScheduleDto s : incoming) {
+                AsScheduleDto old = s.getScheduleId() == null ? null : existing.remove(s.getScheduleId());
+                if (old == null) {
+                    s.setScheduleId(null);   // 다른 AS / 삭제된 ID 는 새 일정으로 등록
+                    toInsert.add(s);
+                } else if (!sameMinute(old.getPlanDate(), s.getPlanDate())
+                        || !sameMinute(old.getCompleteDate(), s.getCompleteDate())
+                        || !Objects.equals(blankToNull(old.getAsContent()), blankToNull(s.getAsContent()))) {
+                    toUpdate.add(s);
+                }
+            }
+        }
+
+        inChunks(new ArrayList<>(existing.keySet()), ids -> asMapper.deleteScheduleByIds(asId, ids));
+        inChunks(toUpdate, rows -> asMapper.updateScheduleBatch(asId, rows));
+        insertSchedules(asId, toInsert);
+    }
+
+    private static List<Object> equipKey(AsEquipDto e) {
+        return Arrays.asList(trim(e.getTableName()), trim(e.getEqmntSeq()), trim(e.getSubSeq()),
+                trim(e.getEqmntKind()), trim(e.getEqmntName()),
+                e.getUseDate() == null ? null : e.getUseDate().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private static boolean sameMinute(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) return a == b;
+        return a.truncatedTo(ChronoUnit.MINUTES).equals(b.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private static String trim(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isEmpty() ? null : s;
+    }
+
+    // 같은 패키지 서비스 공용 (200건 단위 분할 실행)
+    static <T> void inChunks(List<T> rows, Consumer<List<T>> apply) {
+        for (int from = 0; from < rows.size(); from += CHUNK) {
+            apply.accept(rows.subList(from, Math.min(from + CHUNK, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.inpro.asBoard.as.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AsDataVersion {
+
+    // 재기동하면 카운터가 0 부터 다시 시작하므로 기동 시각을 같이 붙여 이전 ETag 와 겹치지 않게 함
+    private final String bootTag = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong counter = new AtomicLong();
+
+    //========================================================================
+    // 1. 데이터 버전 증가 (커밋 후)
+    // 2. URL : (Component) TransactionSynchronization
+    // 3. Param :
+    // 4. 설명 : AS 등록/수정/삭제, 첨부 업로드, 일정 완료/일괄, 일괄 등록, 상태 스윕 시 호출
+    //          트랜잭션 안이면 COMMIT 후(롤백이면 그대로), 아니면 즉시 증가
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                counter.incrementAndGet();
+            }
+        });
+    }
+
+    //========================================================================
+    // 1. 현재 ETag
+    // 2. URL : (Component) ConditionalGetInterceptor
+    // 3. Param :
+    // 4. 설명 : "기동태그-쓰기카운터-오늘날짜" strong ETag (DB 조회 없음)
+    //          상태 라벨/기간 필터가 날짜 기준이라 날짜가 바뀌면 쓰기가 없어도 새 값
+    //          카운터는 인스턴스별이라 다중 인스턴스면 인스턴스가 바뀔 때 한 번 200 으로 다시 받음
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public String etag() {
+        return "\"" + bootTag + "-" + counter.get() + "-" + LocalDate.now() + "\"";
+    }
+}
@@ -0,0 +1,102 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class AsDetailCache {
+
+    private static final long TTL_MILLIS  = 30_000L;  // 상태 라벨(자정 스윕) 변화도 이 안에 반영
+    private static final int  MAX_ENTRIES = 500;
+
+    private record Entry(AsDto as, long expiresAt) {}
+
+    private final AsMapper asMapper;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    // 무효화 세대 : 조회 도중 무효화가 끼면 읽은 값을 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    //========================================================================
+    // 1. AS 상세 조회 (캐시)
+    // 2. URL : (Component) /as/detail/{asId}, /as/edit/{asId}
+    // 3. Param : asId (required)
+    // 4. 설명 : 헤더 + 장비/첨부/일정을 1회 왕복(selectAsDetailFull)으로 읽어 30초 보관
+    //          없는/삭제된 AS 는 null (캐시하지 않음)
+    //          반환 객체는 공유되므로 호출부에서 수정하지 않음
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public AsDto get(Long asId) {
+        long now = System.currentTimeMillis();
+        Entry e = cache.get(asId);
+        if (e != null && e.expiresAt() >= now) return e.as();
+
+        long gen = generation.get();
+        AsDto as = asMapper.selectAsDetailFull(asId);
+        if (as == null) return null;
+        if (as.getEquipList() == null)    as.setEquipList(new ArrayList<>());
+        if (as.getFileList() == null)     as.setFileList(new ArrayList<>());
+        if (as.getScheduleList() == null) as.setScheduleList(new ArrayList<>());
+
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(x -> x.expiresAt() < now);
+            if (cache.size() >= MAX_ENTRIES) cache.clear();
+        }
+        if (generation.get() == gen) cache.put(asId, new Entry(as, now + TTL_MILLIS));
+        return as;
+    }
+
+    //========================================================================
+    // 1. AS 단위 무효화 (커밋 후)
+    // 2. URL : (Component) TransactionSynchronization
+    // 3. Param : asId (optional)
+    // 4. 설명 : 접수 수정/삭제, 첨부 업로드, 일정 완료 시 호출
+    //          트랜잭션 안이면 COMMIT 후, 아니면 즉시 제거
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void invalidateAfterCommit(Long asId) {
+        if (asId == null) return;
+        invalidateAfterCommit(List.of(asId));
+    }
+
+    //========================================================================
+    // 1. AS 다건 무효화 (커밋 후)
+    // 2. URL : (Component) TransactionSynchronization
+    // 3. Param : asIds (optional)
+    // 4. 설명 : 일정 일괄 처리처럼 여러 AS 가 바뀐 경우
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void invalidateAfterCommit(Collection<Long> asIds) {
+        if (asIds == null || asIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(asIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    private void evict(List<Long> ids) {
+        generation.incrementAndGet();
+        ids.forEach(cache::remove);
+    }
+}
@@ -0,0 +1,262 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsExportJobDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsExportJobService {
+
+    private static final long TTL_MILLIS     = 30 * 60_000L;    // 완료 후 파일 보관 시간
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(OutputStream out, LongConsumer progress) throws IOException;
+    }
+
+    private static final class Job {
+        final String id = UUID.randomUUID().toString();
+        final String kind;
+        final String key;
+        final String fileName;
+        final long createdAt = System.currentTimeMillis();
+        final AtomicLong rows = new AtomicLong();
+        volatile String status = "QUEUED";
+        volatile long finishedAt;
+        volatile Path file;
+        volatile String error;
+
+        Job(String kind, String key, String fileName) {
+            this.kind = kind;
+            this.key = key;
+            this.fileName = fileName;
+        }
+
+        boolean expired(long now) {
+            return finishedAt > 0 && finishedAt + TTL_MILLIS < now;
+        }
+    }
+
+    private final AsExportService asExportService;
+    private final AsDataVersion asDataVersion;
+    private final DbWorkerPool dbWorkerPool;   // 작업 스레드 (위젯 묶음/장비 카탈로그와 같은 커넥션 예산)
+
+    /** 생성 파일 저장 경로 (uploadRoot 는 /upload/** 로 공개 서빙되므로 그 밖에 둠) */
+    @Value("${asboard.export.dir:${java.io.tmpdir}/asboard-export}")
+    private String exportDir;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // 필터 키(+데이터 버전) → 작업 : 같은 조건 요청은 진행 중/완료 작업을 그대로 돌려줌
+    private final Map<String, Job> byKey = new ConcurrentHashMap<>();
+
+    //========================================================================
+    // 1. 일정 엑셀 작업 등록
+    // Param : params (required, AsExportService.buildScheduleParams 결과), colKeys (required)
+    // 설명  : 즉시 작업 정보 반환, 파일은 작업 스레드가 exportDir(비공개 경로) 아래에 생성
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsExportJobDto submitSchedule(Map<String, Object> params, List<String> colKeys) {
+        return submit("schedule", keyOf(params) + colKeys, "일정내역.xlsx",
+                (out, progress) -> asExportService.writeScheduleXlsx(params, colKeys, out, progress));
+    }
+
+    //========================================================================
+    // 1. AS 목록 엑셀 작업 등록
+    // Param : params (required, AsListService.buildListParams 결과)
+    // 설명  : 목록 화면과 같은 필터/정렬로 AS 1건 = 1행
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsExportJobDto submitAsList(Map<String, Object> params) {
+        return submit("list", keyOf(params), "AS내역.xlsx",
+                (out, progress) -> asExportService.writeAsListXlsx(params, out, progress));
+    }
+
+    //========================================================================
+    // 1. 작업 등록 (공통)
+    // Param : kind, filterKey, fileName, writer
+    // 설명  : 키 = 종류 + 데이터 버전 + 필터. 같은 키의 대기/진행/완료(만료 전) 작업이 있으면 합류
+    //        데이터가 바뀌면(버전 증가) 새 작업. 실패한 작업은 재사용하지 않음
+    //        대기열이 가득 차면 IllegalStateException
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    private synchronized AsExportJobDto submit(String kind, String filterKey, String fileName, Writer writer) {
+        String key = kind + ":" + asDataVersion.etag() + ":" + filterKey;
+        long now = System.currentTimeMillis();
+        Job existing = byKey.get(key);
+        if (existing != null && !"FAILED".equals(existing.status) && !existing.expired(now)) {
+            return toDto(existing);
+        }
+
+        Job job = new Job(kind, key, fileName);
+        try {
+            dbWorkerPool.exportJobs().execute(() -> run(job, writer));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("export queue is full");
+        }
+        jobs.put(job.id, job);
+        byKey.put(key, job);
+        return toDto(job);
+    }
+
+    private void run(Job job, Writer writer) {
+        job.status = "RUNNING";
+        Path part = null;
+        try {
+            Path dir = exportDir();
+            part = dir.resolve(job.id + ".part");
+            try (OutputStream out = Files.newOutputStream(part)) {
+                writer.write(out, job.rows::set);
+            }
+            Path done = dir.resolve(job.id + ".xlsx");
+            Files.move(part, done, StandardCopyOption.REPLACE_EXISTING);
+            job.file = done;
+            job.status = "DONE";
+            log.info("Export job done: {} {} rows={}", job.kind, job.id, job.rows.get());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = "FAILED";
+            log.warn("Export job failed: {} {}", job.kind, job.id, e);
+            if (part != null) {
+                try { Files.deleteIfExists(part); } catch (IOException ignore) { }
+            }
+        } finally {
+            job.finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    //========================================================================
+    // 1. 작업 상태 조회
+    // Param : jobId (required)
+    // 설명  : 없는/만료된 작업은 null
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsExportJobDto status(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.expired(System.currentTimeMillis())) return null;
+        return toDto(job);
+    }
+
+    //========================================================================
+    // 1. 완료 파일 조회
+    // Param : jobId (required)
+    // 설명  : DONE 이고 만료 전이면 파일 경로, 아니면 null
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Path fileOf(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !"DONE".equals(job.status) || job.expired(System.currentTimeMillis())) return null;
+        return job.file;
+    }
+
+    //========================================================================
+    // 1. 다운로드 파일명
+    // Param : jobId (required)
+    // 설명  : Content-Disposition 용
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public String fileNameOf(String jobId) {
+        Job job = jobs.get(jobId);
+        return job == null ? "export.xlsx" : job.fileName;
+    }
+
+    //========================================================================
+    // 1. 만료 작업 정리
+    // Param :
+    // 설명  : 1분 주기. TTL 지난 작업 제거 + 파일 삭제
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @Scheduled(fixedDelay = 60_000L, initialDelay = 60_000L)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> {
+            if (!job.expired(now)) return false;
+            byKey.remove(job.key, job);
+            if (job.file != null) {
+                try { Files.deleteIfExists(job.file); } catch (IOException e) {
+                    log.warn("Export file delete failed: {}", job.file, e);
+                }
+            }
+            return true;
+        });
+    }
+
+    //========================================================================
+    // 1. 기동 시 잔여 파일 정리
+    // Param :
+    // 설명  : 작업 목록은 메모리에만 있으므로 이전 실행이 남긴 파일은 찾을 수 없음 → 삭제
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanStaleFiles() {
+        Path dir = Path.of(exportDir);
+        if (!Files.isDirectory(dir)) return;
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(p -> p.getFileName().toString().matches("[0-9a-f\\-]{36}\\.(xlsx|part)"))
+                    .forEach(p -> {
+                        try { Files.deleteIfExists(p); } catch (IOException ignore) { }
+                    });
+        } catch (IOException e) {
+            log.warn("Export dir cleanup failed: {}", dir, e);
+        }
+    }
+
+    // 생성 파일 디렉토리 (없으면 생성)
+    private Path exportDir() {
+        Path dir = Path.of(exportDir);
+        try {
+            return Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("export dir create failed: " + dir, e);
+        }
+    }
+
+    // 필터 맵 정규화 (qIds 는 q 에서 파생되므로 제외)
+    private static String keyOf(Map<String, Object> params) {
+        Map<String, Object> norm = new TreeMap<>(params);
+        norm.remove("qIds");
+        return norm.toString();
+    }
+
+    private static AsExportJobDto toDto(Job job) {
+        AsExportJobDto d = new AsExportJobDto();
+        d.setJobId(job.id);
+        d.setKind(job.kind);
+        d.setStatus(job.status);
+        d.setRowsWritten(job.rows.get());
+        d.setFileName(job.fileName);
+        d.setError(job.error);
+        d.setCreatedAt(toLocal(job.createdAt));
+        if (job.finishedAt > 0) {
+            d.setFinishedAt(toLocal(job.finishedAt));
+            d.setExpiresAt(toLocal(job.finishedAt + TTL_MILLIS));
+        }
+        if ("DONE".equals(job.status)) d.setDownloadUrl("/api/as/export/jobs/" + job.id + "/file");
+        return d;
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,260 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.dto.AsScheduleRowDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AsExportService {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    // 메모리에 두는 행 수 (넘는 행은 임시파일로 내려감)
+    private static final int ROW_WINDOW = 200;
+    // 진행률 알림 간격(행)
+    private static final int PROGRESS_EVERY = 500;
+
+    // 일정 내보내기 컬럼 (키 → 헤더명), 순서 = 기본 출력 순서
+    public static final Map<String, String> SCHEDULE_COLUMNS;
+    static {
+        Map<String, String> m = new LinkedHashMap<>();
+        m.put("asId",          "AS_ID");
+        m.put("farmName",      "농가명");
+        m.put("farmCode",      "농가코드");
+        m.put("regionName",    "지역");
+        m.put("projectName",   "사업명");
+        m.put("asType",        "문제유형");
+        m.put("reqDate",       "접수일");
+        m.put("planDate",      "예정일");
+        m.put("completeDate",  "완료일");
+        m.put("completedMark", "완료");
+        SCHEDULE_COLUMNS = Collections.unmodifiableMap(m);
+    }
+
+    // 컬럼 폭(글자 수) : 스트리밍은 전체 행을 못 보므로 autoSize 대신 고정 폭
+    private static final Map<String, Integer> COLUMN_WIDTHS = Map.of(
+            "asId", 10, "farmName", 20, "farmCode", 12, "regionName", 18, "projectName", 24,
+            "asType", 12, "reqDate", 18, "planDate", 18, "completeDate", 18, "completedMark", 6
+    );
+
+    // AS 목록 내보내기 컬럼 (고정)
+    private static final String[] AS_LIST_HEADERS = {
+            "AS_ID", "농가명", "농가코드", "지역", "사업명", "문제유형", "진행도",
+            "접수일", "다음 예정일", "접수자", "담당자", "요청내용"
+    };
+    private static final int[] AS_LIST_WIDTHS = { 10, 20, 12, 18, 24, 12, 10, 18, 18, 12, 12, 50 };
+
+    private final AsMapper asMapper;
+    private final AsSearchIndex asSearchIndex;
+
+    //========================================================================
+    // 1. 일정 내보내기 필터 파라미터 구성
+    // Param : /as/schedule/export 와 동일한 필터 (모두 optional)
+    // 설명  : 동기 다운로드와 내보내기 작업이 같은 필터 맵을 쓰도록 공용
+    //        정렬 기본값 planDate asc, 유형 '기타'는 includeEtc 로 분리
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Map<String, Object> buildScheduleParams(String q, String farms, String types, String tables,
+                                                   String equipName, String completion, String period,
+                                                   LocalDateTime startDate, LocalDateTime endDate,
+                                                   String sortField, String sortDir) {
+        if (sortField == null || sortField.isBlank()) sortField = "planDate";
+        if (sortDir   == null || sortDir.isBlank())   sortDir   = "asc";
+
+        List<String> typeList   = csvToList(types);
+        boolean includeEtc      = typeList.stream().anyMatch("기타"::equals);
+        List<String> typesNonEtc= typeList.stream().filter(t -> !"기타".equals(t)).toList();
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("q",           (q != null && !q.isBlank()) ? q.trim() : null);
+        params.put("qIds",        asSearchIndex.candidates(q));
+        params.put("farms",       csvToList(farms));
+        params.put("types",       typesNonEtc);
+        params.put("includeEtc",  includeEtc);
+        params.put("tables",      csvToList(tables));
+        params.put("equipName",   equipName);
+        params.put("completion",  completion);
+        params.put("period",      period);
+        params.put("startDate",   startDate);
+        params.put("endDate",     endDate);
+        params.put("sortField",   sortField);
+        params.put("sortDir",     sortDir);
+        return params;
+    }
+
+    //========================================================================
+    // 1. 내보낼 컬럼 정리
+    // Param : cols (optional, CSV)
+    // 설명  : 허용 컬럼만 입력 순서대로, 비었거나 전부 잘못된 값이면 기본 전체
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public List<String> resolveColumns(String cols) {
+        List<String> defaults = List.copyOf(SCHEDULE_COLUMNS.keySet());
+        if (cols == null || cols.isBlank()) return defaults;
+        List<String> keys = Arrays.stream(cols.split(",")).map(String::trim)
+                .filter(SCHEDULE_COLUMNS::containsKey).distinct().toList();
+        return keys.isEmpty() ? defaults : keys;
+    }
+
+    //========================================================================
+    // 1. 일정 엑셀 스트리밍 출력
+    // Param : params (required, buildScheduleParams 결과)
+    //         colKeys (required, resolveColumns 결과)
+    //         out (required, 응답 스트림 또는 작업 파일)
+    //         progress (optional, 기록한 행 수를 500행마다 + 마지막에 전달)
+    // 설명  : Cursor 로 한 행씩 읽어 SXSSF(행 200개 창, 초과분 압축 임시파일)로 바로 기록
+    //        행 수와 무관하게 힙 사용량 일정. Cursor 는 트랜잭션 안에서만 열려 있으므로 읽기 전용 트랜잭션
+    //        (다운로드가 끝날 때까지 커넥션 1개 사용)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @Transactional(readOnly = true)
+    public void writeScheduleXlsx(Map<String, Object> params, List<String> colKeys, OutputStream out,
+                                  LongConsumer progress) throws IOException {
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try (Cursor<AsScheduleRowDto> rows = asMapper.selectScheduleRowCursorForExport(params)) {
+            SXSSFSheet sh = wb.createSheet("일정내역");
+            CellStyle dateTimeStyle = wb.createCellStyle();
+            dateTimeStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+            // 헤더 + 고정 폭
+            Row head = sh.createRow(0);
+            for (int i = 0; i < colKeys.size(); i++) {
+                head.createCell(i).setCellValue(SCHEDULE_COLUMNS.get(colKeys.get(i)));
+                sh.setColumnWidth(i, COLUMN_WIDTHS.get(colKeys.get(i)) * 256);
+            }
+
+            // 데이터
+            int r = 1;
+            for (AsScheduleRowDto row : rows) {
+                Row rr = sh.createRow(r++);
+                int c = 0;
+                for (String k : colKeys) {
+                    switch (k) {
+                        case "asId"        -> rr.createCell(c++).setCellValue(row.getAsId() == null ? 0 : row.getAsId());
+                        case "farmName"    -> rr.createCell(c++).setCellValue(nn(row.getFarmName()));
+                        case "farmCode"    -> rr.createCell(c++).setCellValue(nn(row.getFarmCode()));
+                        case "regionName"  -> rr.createCell(c++).setCellValue(nn(row.getRegionName()));
+                        case "projectName" -> rr.createCell(c++).setCellValue(nn(row.getProjectName()));
+                        case "asType"      -> rr.createCell(c++).setCellValue(nn(row.getAsType()));
+                        case "reqDate"     -> writeDateCell(rr, c++, row.getReqDate(), dateTimeStyle);
+                        case "planDate"    -> writeDateCell(rr, c++, row.getPlanDate(), dateTimeStyle);
+                        case "completeDate"-> writeDateCell(rr, c++, row.getCompleteDate(), dateTimeStyle);
+                        case "completedMark" -> {
+                            String mark = "완료".equals(row.getCompletionLabel()) ? "O" : "X";
+                            rr.createCell(c++).setCellValue(mark);
+                        }
+                    }
+                }
+                if (progress != null && (r - 1) % PROGRESS_EVERY == 0) progress.accept(r - 1);
+            }
+            if (progress != null) progress.accept(r - 1);
+
+            wb.write(out);
+            out.flush();
+        } finally {
+            wb.dispose();   // 임시파일 삭제
+            wb.close();
+        }
+    }
+
+    //========================================================================
+    // 1. AS 목록 엑셀 스트리밍 출력
+    // Param : params (required, AsListService.buildListParams 결과)
+    //         out (required), progress (optional)
+    // 설명  : 목록 화면과 같은 필터/정렬로 AS 헤더 1건 = 1행 출력 (고정 컬럼)
+    //        selectAsListFiltered 와 같은 SQL 을 페이징 없이 Cursor 로 순회
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @Transactional(readOnly = true)
+    public void writeAsListXlsx(Map<String, Object> params, OutputStream out, LongConsumer progress) throws IOException {
+        Map<String, Object> p = toListCursorParams(params);
+
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try (Cursor<AsDto> rows = asMapper.selectAsListCursorForExport(p)) {
+            SXSSFSheet sh = wb.createSheet("AS내역");
+            CellStyle dateTimeStyle = wb.createCellStyle();
+            dateTimeStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+            Row head = sh.createRow(0);
+            for (int i = 0; i < AS_LIST_HEADERS.length; i++) {
+                head.createCell(i).setCellValue(AS_LIST_HEADERS[i]);
+                sh.setColumnWidth(i, AS_LIST_WIDTHS[i] * 256);
+            }
+
+            int r = 1;
+            for (AsDto as : rows) {
+                Row rr = sh.createRow(r++);
+                int c = 0;
+                rr.createCell(c++).setCellValue(as.getAsId() == null ? 0 : as.getAsId());
+                rr.createCell(c++).setCellValue(nn(as.getFarmName()));
+                rr.createCell(c++).setCellValue(nn(as.getFarmCode()));
+                rr.createCell(c++).setCellValue(nn(as.getRegionName()));
+                rr.createCell(c++).setCellValue(nn(as.getProjectName()));
+                rr.createCell(c++).setCellValue(nn(as.getAsType()));
+                rr.createCell(c++).setCellValue(nn(as.getStatusLabel()));
+                writeDateCell(rr, c++, as.getReqDate(), dateTimeStyle);
+                writeDateCell(rr, c++, as.getPlanDate(), dateTimeStyle);
+                rr.createCell(c++).setCellValue(nn(as.getReqUser()));
+                rr.createCell(c++).setCellValue(nn(as.getAsManager()));
+                rr.createCell(c).setCellValue(nn(as.getReqContent()));
+                if (progress != null && (r - 1) % PROGRESS_EVERY == 0) progress.accept(r - 1);
+            }
+            if (progress != null) progress.accept(r - 1);
+
+            wb.write(out);
+            out.flush();
+        } finally {
+            wb.dispose();
+            wb.close();
+        }
+    }
+
+    // 목록 필터 맵 → 전체 Cursor 조회용 (keyset 분기의 ORDER BY 정렬컬럼, AS_ID 만 쓰고 페이지 제한 없음)
+    static Map<String, Object> toListCursorParams(Map<String, Object> params) {
+        Map<String, Object> p = new HashMap<>(params);
+        p.put("keyset",    true);
+        p.put("seekAsc",   "asc".equals(params.get("sortDir")));
+        p.put("keyValue",  null);
+        p.put("keyAsId",   null);
+        p.put("exportAll", true);
+        return p;
+    }
+
+    private static String nn(Object o){ return o==null? "" : String.valueOf(o); }
+
+    private static List<String> csvToList(String s) {
+        if (s == null || s.isBlank()) return Collections.emptyList();
+        return Arrays.stream(s.split(","))
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    // ===== ZONE_SEOUL 시간대 설정 =====
+    private static void writeDateCell(Row row, int col, LocalDateTime ldt, CellStyle style) {
+        Cell cell = row.createCell(col);
+        if (ldt == null) { cell.setBlank(); return; }
+        cell.setCellStyle(style);
+        Date d = Date.from(ldt.atZone(ZONE_SEOUL).toInstant());
+        cell.setCellValue(d);
+    }
+}
@@ -0,0 +1,331 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.common.SheetRowReader;
+import com.inpro.asBoard.as.dto.*;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsImportService {
+
+    // 트랜잭션 1회 당 AS 수 (헤더 100건 + 장비/일정 다중 VALUES)
+    public static final int CHUNK_ROWS = 100;
+    private static final int MAX_ERRORS = 500;
+
+    private enum Col { FARM_CODE, REQ_DATE, REQ_USER, AS_MANAGER, AS_TYPE, REQ_CONTENT, AS_RESULT, ETC, HOLD, EQUIP, PLAN_DATE, COMPLETE_DATE }
+
+    // 헤더명 (공백/밑줄 제거, 대문자) → 열
+    private static final Map<String, Col> HEADERS = Map.ofEntries(
+            Map.entry("농가코드", Col.FARM_CODE),   Map.entry("농장코드", Col.FARM_CODE),  Map.entry("FARMCODE", Col.FARM_CODE),
+            Map.entry("접수일", Col.REQ_DATE),      Map.entry("접수일자", Col.REQ_DATE),   Map.entry("REQDATE", Col.REQ_DATE),
+            Map.entry("접수자", Col.REQ_USER),      Map.entry("REQUSER", Col.REQ_USER),
+            Map.entry("담당자", Col.AS_MANAGER),    Map.entry("AS담당자", Col.AS_MANAGER), Map.entry("ASMANAGER", Col.AS_MANAGER),
+            Map.entry("문제유형", Col.AS_TYPE),     Map.entry("ASTYPE", Col.AS_TYPE),
+            Map.entry("접수내용", Col.REQ_CONTENT), Map.entry("REQCONTENT", Col.REQ_CONTENT),
+            Map.entry("조치결과", Col.AS_RESULT),   Map.entry("ASRESULT", Col.AS_RESULT),
+            Map.entry("비고", Col.ETC),             Map.entry("ETC", Col.ETC),
+            Map.entry("보류", Col.HOLD),            Map.entry("HOLD", Col.HOLD),
+            Map.entry("장비", Col.EQUIP),           Map.entry("EQUIP", Col.EQUIP),
+            Map.entry("예정일", Col.PLAN_DATE),     Map.entry("PLANDATE", Col.PLAN_DATE),
+            Map.entry("완료일", Col.COMPLETE_DATE), Map.entry("COMPLETEDATE", Col.COMPLETE_DATE)
+    );
+
+    private static final Set<String> HOLD_VALUES = Set.of("Y", "O", "1", "TRUE", "보류");
+    private static final Set<String> UNREGISTERED = Set.of("UNREGISTERED", "미등록");
+
+    // 2025-09-01 / 2025.09.01 10:00 / 2025/09/01 10:00:00 / 2025-09-01T10:00
+    private static final DateTimeFormatter DATE_IN = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-M-d[ H:mm[:ss]]")
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .toFormatter();
+
+    private record Parsed(int row, AsDto dto) {}
+
+    private final AsMapper asMapper;
+    private final AsChildWriter asChildWriter;
+    private final AsStatusService asStatusService;
+    private final AsSearchIndex asSearchIndex;
+    private final DashFactCube dashFactCube;
+    private final DashDailyStatService dashDailyStatService;
+    private final ListCountCache listCountCache;
+    private final AsDataVersion asDataVersion;
+    private final FarmDirectory farmDirectory;
+    private final EquipSourceRegistry equipSourceRegistry;
+    private final EquipCatalogService equipCatalogService;
+    private final TransactionTemplate transactionTemplate;
+
+    //========================================================================
+    // 1. AS 일괄 등록
+    // Param : file (required, .xlsx 첫 시트 또는 .csv)
+    // 설명  : 1행 헤더(농가코드 필수), 이후 1행 = AS 1건
+    //        장비 : "테이블명:장비SEQ[:SUB_SEQ]" 또는 "미등록:장비명", 여러 개는 ; 또는 줄바꿈
+    //        예정일/완료일 : 여러 개는 ; 구분, 같은 순서끼리 짝
+    //        행 단위로 읽어 검증 → 100건마다 한 트랜잭션으로 등록 (메모리 일정)
+    //        묶음 등록이 실패하면 그 묶음만 1건씩 다시 시도해 실패 행을 가려냄
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsImportReportDto importFile(MultipartFile file) throws IOException {
+        String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        Session session = new Session();
+
+        if (name.endsWith(".xlsx")) {
+            Path tmp = Files.createTempFile("as-import-", ".xlsx");
+            try {
+                file.transferTo(tmp);
+                SheetRowReader.readXlsx(tmp, session::onRow);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } else if (name.endsWith(".csv")) {
+            try (InputStream in = file.getInputStream()) {
+                SheetRowReader.readCsv(in, session::onRow);
+            }
+        } else {
+            throw new IllegalArgumentException("xlsx 또는 csv 파일만 등록할 수 있습니다");
+        }
+
+        session.flush();
+        if (session.header == null) throw new IllegalArgumentException("헤더 행이 없습니다");
+        log.info("AS import: total={}, inserted={}, failed={}",
+                session.report.getTotal(), session.report.getInserted(), session.report.getFailed());
+        return session.report;
+    }
+
+    // 파일 1개 처리 상태 (헤더 위치 + 등록 대기 묶음)
+    private final class Session {
+        final AsImportReportDto report = new AsImportReportDto();
+        final List<Parsed> chunk = new ArrayList<>(CHUNK_ROWS);
+        Map<Col, Integer> header;
+
+        void onRow(int rowNum, List<String> cells) {
+            if (cells.stream().allMatch(c -> c == null || c.isBlank())) return;
+            if (header == null) {
+                header = parseHeader(cells);
+                return;
+            }
+            report.setTotal(report.getTotal() + 1);
+            try {
+                chunk.add(new Parsed(rowNum, toDto(header, cells)));
+            } catch (IllegalArgumentException e) {
+                fail(rowNum, e.getMessage());
+            }
+            if (chunk.size() >= CHUNK_ROWS) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            try {
+                transactionTemplate.executeWithoutResult(st -> insertChunk(chunk));
+                report.setInserted(report.getInserted() + chunk.size());
+            } catch (RuntimeException e) {
+                // 어느 행이 문제인지 모르므로 1건씩 다시
+                for (Parsed p : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(st -> insertChunk(List.of(p)));
+                        report.setInserted(report.getInserted() + 1);
+                    } catch (RuntimeException ex) {
+                        fail(p.row(), "등록 실패: " + rootMessage(ex));
+                    }
+                }
+            }
+            chunk.clear();
+        }
+
+        void fail(int rowNum, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < MAX_ERRORS) {
+                report.getErrors().add(new AsImportReportDto.RowError(rowNum, message));
+            } else {
+                report.setTruncated(true);
+            }
+        }
+    }
+
+    // 묶음 등록: 헤더는 키 회수가 필요해 1건씩, 장비/일정은 묶음 전체를 다중 VALUES 로
+    private void insertChunk(List<Parsed> rows) {
+        List<AsEquipDto> equips = new ArrayList<>();
+        List<AsScheduleDto> schedules = new ArrayList<>();
+        for (Parsed p : rows) {
+            AsDto dto = p.dto();
+            asMapper.insertAsHeader(dto);
+            if (dto.getAsId() == null) throw new IllegalStateException("AS ID 생성 실패");
+            dto.getEquipList().forEach(e -> e.setAsId(dto.getAsId()));
+            dto.getScheduleList().forEach(s -> s.setAsId(dto.getAsId()));
+            equips.addAll(dto.getEquipList());
+            schedules.addAll(dto.getScheduleList());
+        }
+        asChildWriter.insertEquipRows(equips);
+        asChildWriter.insertScheduleRows(schedules);
+        List<Long> asIds = rows.stream().map(p -> p.dto().getAsId()).toList();
+        asStatusService.refreshMany(asIds);
+        dashDailyStatService.afterChange(asIds);
+        for (Long asId : asIds) asSearchIndex.reindexAfterCommit(asId);
+        dashFactCube.refreshAfterCommit(asIds);
+        listCountCache.invalidateAfterCommit();
+        asDataVersion.bumpAfterCommit();
+    }
+
+    private static Map<Col, Integer> parseHeader(List<String> cells) {
+        Map<Col, Integer> header = new EnumMap<>(Col.class);
+        for (int i = 0; i < cells.size(); i++) {
+            String key = cells.get(i) == null ? "" : cells.get(i).replaceAll("[\\s_]", "").toUpperCase(Locale.ROOT);
+            Col col = HEADERS.get(key);
+            if (col != null) header.putIfAbsent(col, i);
+        }
+        if (!header.containsKey(Col.FARM_CODE)) {
+            throw new IllegalArgumentException("헤더에 농가코드 열이 없습니다");
+        }
+        return header;
+    }
+
+    private AsDto toDto(Map<Col, Integer> header, List<String> cells) {
+        String farmCode = cell(header, cells, Col.FARM_CODE);
+        if (farmCode == null) throw new IllegalArgumentException("농가코드 누락");
+        if (!farmDirectory.contains(farmCode)) throw new IllegalArgumentException("등록되지 않은 농가코드: " + farmCode);
+
+        AsDto dto = new AsDto();
+        dto.setFarmCode(farmCode);
+        LocalDateTime reqDate = parseDate(cell(header, cells, Col.REQ_DATE), "접수일");
+        dto.setReqDate(reqDate != null ? reqDate : LocalDateTime.now());
+        dto.setReqUser(cell(header, cells, Col.REQ_USER));
+        dto.setAsManager(cell(header, cells, Col.AS_MANAGER));
+        String asType = cell(header, cells, Col.AS_TYPE);
+        dto.setAsType(asType != null ? asType : "기타");
+        dto.setReqContent(cell(header, cells, Col.REQ_CONTENT));
+        dto.setAsResult(cell(header, cells, Col.AS_RESULT));
+        dto.setEtc(cell(header, cells, Col.ETC));
+        String hold = cell(header, cells, Col.HOLD);
+        dto.setStatusFlag(hold == null || !HOLD_VALUES.contains(hold.toUpperCase(Locale.ROOT)));
+        dto.setUseFlag(true);
+        dto.setEquipList(parseEquips(farmCode, cell(header, cells, Col.EQUIP)));
+        dto.setScheduleList(parseSchedules(cell(header, cells, Col.PLAN_DATE), cell(header, cells, Col.COMPLETE_DATE)));
+        return dto;
+    }
+
+    private List<AsEquipDto> parseEquips(String farmCode, String spec) {
+        List<AsEquipDto> out = new ArrayList<>();
+        if (spec == null) return out;
+        Set<String> seen = new HashSet<>();
+        for (String item : spec.split("[;\\n]")) {
+            item = item.trim();
+            if (item.isEmpty() || !seen.add(item)) continue;
+            String[] parts = item.split(":", -1);
+            String table = parts[0].trim();
+
+            AsEquipDto e = new AsEquipDto();
+            e.setUseFlag(true);
+            if (UNREGISTERED.contains(table.toUpperCase(Locale.ROOT))) {
+                String eqName = parts.length > 1 ? item.substring(item.indexOf(':') + 1).trim() : "";
+                if (eqName.isEmpty()) throw new IllegalArgumentException("미등록 장비명 누락: " + item);
+                e.setTableName("UNREGISTERED");
+                e.setEqmntName(eqName);
+                out.add(e);
+                continue;
+            }
+
+            if (equipSourceRegistry.get(table) == null) throw new IllegalArgumentException("알 수 없는 장비 테이블: " + table);
+            if (parts.length < 2 || parts[1].isBlank()) throw new IllegalArgumentException("장비 SEQ 누락: " + item);
+            String seq = parts[1].trim();
+            String sub = parts.length > 2 && !parts[2].isBlank() ? parts[2].trim() : null;
+
+            List<Map<String, Object>> matches = new ArrayList<>();
+            for (Map<String, Object> row : equipCatalogService.catalogOf(farmCode).getOrDefault(table, List.of())) {
+                if (sameSeq(row.get("EQMNT_SEQ"), seq) && (sub == null || sameSeq(row.get("SUB_SEQ"), sub))) matches.add(row);
+            }
+            if (matches.isEmpty()) throw new IllegalArgumentException("농가에 없는 장비: " + item);
+            if (matches.size() > 1) throw new IllegalArgumentException("SUB_SEQ 지정 필요: " + item);
+
+            Map<String, Object> row = matches.get(0);
+            boolean isEqmnt = "SF_TBL_EQMNT".equals(table);   // EQMNT 는 SUB_SEQ 자리에 EQMNT_KIND
+            e.setTableName(table);
+            e.setEqmntSeq(str(row.get("EQMNT_SEQ")));
+            e.setSubSeq(isEqmnt ? null : str(row.get("SUB_SEQ")));
+            e.setEqmntKind(isEqmnt ? str(row.get("SUB_SEQ")) : null);
+            e.setEqmntName(str(row.get("EQMNT_NAME")));
+            e.setUseDate(toLocalDateTime(row.get("USE_DATE")));
+            out.add(e);
+        }
+        return out;
+    }
+
+    private static List<AsScheduleDto> parseSchedules(String plans, String completes) {
+        List<AsScheduleDto> out = new ArrayList<>();
+        String[] p = plans == null ? new String[0] : plans.split("[;\\n]", -1);
+        String[] c = completes == null ? new String[0] : completes.split("[;\\n]", -1);
+        for (int i = 0; i < Math.max(p.length, c.length); i++) {
+            LocalDateTime plan = parseDate(i < p.length ? p[i] : null, "예정일");
+            LocalDateTime done = parseDate(i < c.length ? c[i] : null, "완료일");
+            if (plan == null && done == null) continue;
+            if (plan == null) throw new IllegalArgumentException("완료일에 대응하는 예정일 누락 (" + (i + 1) + "번째)");
+            AsScheduleDto s = new AsScheduleDto();
+            s.setPlanDate(plan);
+            s.setCompleteDate(done);
+            s.setUseFlag(true);
+            out.add(s);
+        }
+        return out;
+    }
+
+    private static LocalDateTime parseDate(String v, String label) {
+        if (v == null || v.isBlank()) return null;
+        String s = v.trim().replace('.', '-').replace('/', '-').replace('T', ' ');
+        try {
+            return LocalDateTime.parse(s, DATE_IN);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(label + " 형식 오류: " + v.trim());
+        }
+    }
+
+    private static String cell(Map<Col, Integer> header, List<String> cells, Col col) {
+        Integer idx = header.get(col);
+        if (idx == null || idx >= cells.size()) return null;
+        String v = cells.get(idx);
+        return v == null || v.isBlank() ? null : v.trim();
+    }
+
+    // "1" 과 "001", "1  " 을 같은 SEQ 로
+    private static boolean sameSeq(Object stored, String given) {
+        if (stored == null) return false;
+        String a = stored.toString().trim();
+        if (a.equals(given)) return true;
+        try {
+            return Integer.parseInt(a) == Integer.parseInt(given);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String str(Object o) {
+        return o == null ? null : o.toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object o) {
+        if (o instanceof LocalDateTime ldt) return ldt;
+        if (o instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
+        if (o instanceof java.util.Date d) return new java.sql.Timestamp(d.getTime()).toLocalDateTime();
+        return null;
+    }
+
+    private static String rootMessage(Throwable t) {
+        while (t.getCause() != null && t.getCause() != t) t = t.getCause();
+        return t.getMessage();
+    }
+}
@@ -0,0 +1,232 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.common.AsListCursor;
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.dto.AsFacetDto;
+import com.inpro.asBoard.as.dto.AsListPageDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class AsListService {
+
+    private final AsMapper asMapper;
+    private final AsSearchIndex asSearchIndex;
+
+    // Mapper 정렬 화이트리스트와 동일하게 유지
+    private static final Set<String> SORT_FIELDS = Set.of(
+            "asId", "farmName", "farmCode", "regionName", "asType", "projectName", "reqDate", "planDate", "regDate"
+    );
+
+    private static final int FARM_FACET_LIMIT = 50;
+
+    //========================================================================
+    // 1. AS 목록 조회 파라미터 구성
+    // Param : 화면/REST 공통 필터 (CSV 문자열은 List 로 변환)
+    // 설명  : 레거시 파라미터(keyword/asStatus) 흡수, 기타/보류 분리, dateBy 정규화 후
+    //        selectAsListFiltered / countAsListFiltered 에 그대로 넘길 map 반환 (페이징 제외)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Map<String, Object> buildListParams(String keyword, String asStatus,
+                                               LocalDateTime startDate, LocalDateTime endDate,
+                                               String sortField, String sortDir,
+                                               String farms, String types, String statuses, String tables,
+                                               String equipName, String period, String q, String dateBy) {
+        // 레거시 → 신규 흡수
+        if ((q == null || q.isBlank()) && keyword != null && !keyword.isBlank()) {
+            q = keyword.trim();
+        }
+        if ((statuses == null || statuses.isBlank()) && asStatus != null && !asStatus.isBlank()) {
+            statuses = asStatus; // 단일도 CSV처럼 처리
+        }
+        if (sortField == null || sortField.isBlank()) sortField = "asId";
+        if (sortDir   == null || sortDir.isBlank())   sortDir   = "desc";
+
+        // CSV → List
+        List<String> farmList   = csvToList(farms);
+        List<String> typeList   = csvToList(types);
+        List<String> statusList = csvToList(statuses);
+        List<String> tableList  = csvToList(tables);
+
+        boolean includeEtc  = typeList.stream().anyMatch("기타"::equals);
+        List<String> typesNonEtc = typeList.stream().filter(t -> !"기타".equals(t)).toList();
+        boolean includeHold = statusList.contains("보류");
+
+        // ✅ dateBy 정규화 (예외값 방지)
+        String dateByNorm = "reg".equalsIgnoreCase(dateBy) ? "reg" : "plan";
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("farms",       farmList);
+        params.put("types",       typesNonEtc);
+        params.put("includeEtc",  includeEtc);
+        params.put("statuses",    statusList);
+        params.put("includeHold", includeHold);
+        params.put("tables",      tableList);
+        params.put("equipName",   equipName);
+        params.put("period",      period);
+        params.put("q",           (q != null && !q.isBlank()) ? q.trim() : null);
+        params.put("qIds",        asSearchIndex.candidates(q)); // null 이면 XML 에서 LIKE 사용
+
+        // ✅ 기간 기준 + 기간 값 전달 (XML에서 dateBy=plan→PLAN_DATE, reg→REG_DATE 기준으로 분기)
+        params.put("dateBy",      dateByNorm);
+        params.put("startDate",   startDate);
+        params.put("endDate",     endDate);
+
+        // 정렬
+        params.put("sortField",   sortField);
+        params.put("sortDir",     sortDir);
+        return params;
+    }
+
+    //========================================================================
+    // 1. AS 목록 커서(keyset) 페이지 조회
+    // Param : params (buildListParams 결과)
+    //         cursor (optional, 이전 응답의 nextCursor/prevCursor, 없으면 첫 페이지)
+    //         size   (required, int)
+    // 설명  : OFFSET 대신 [정렬컬럼, AS_ID] 기준 seek 조건으로 size+1 건만 조회
+    //        → 페이지 깊이와 무관하게 비용 일정. 다음 행 존재 여부로 커서 생성
+    //        정렬이 바뀐 커서는 무시하고 첫 페이지부터 조회
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsListPageDto selectKeysetPage(Map<String, Object> params, String cursor, int size) {
+        String sortField = SORT_FIELDS.contains(params.get("sortField")) ? (String) params.get("sortField") : "asId";
+        String sortDir   = "asc".equals(params.get("sortDir")) ? "asc" : "desc";
+
+        AsListCursor cur = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                cur = AsListCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+            }
+            if (!sortField.equals(cur.sortField()) || !sortDir.equals(cur.sortDir())) cur = null;
+        }
+        boolean backward = cur != null && cur.backward();
+
+        Map<String, Object> p = new LinkedHashMap<>(params);
+        p.put("sortField", sortField);
+        p.put("sortDir",   sortDir);
+        p.put("keyset",    true);
+        p.put("seekAsc",   "asc".equals(sortDir) != backward); // 이전 페이지는 역방향으로 읽고 뒤집음
+        p.put("keyValue",  cur == null ? null : cur.keyValue());
+        p.put("keyAsId",   cur == null ? null : cur.asId());
+        p.put("offset",    0);
+        p.put("size",      size + 1);
+
+        List<AsDto> rows = new ArrayList<>(asMapper.selectAsListFiltered(p));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) rows = new ArrayList<>(rows.subList(0, size));
+        if (backward) Collections.reverse(rows);
+
+        AsListPageDto page = new AsListPageDto();
+        page.setItems(rows);
+        page.setSize(size);
+        if (!rows.isEmpty()) {
+            boolean hasNext = backward || hasMore;
+            boolean hasPrev = backward ? hasMore : cur != null;
+            AsDto first = rows.get(0);
+            AsDto last  = rows.get(rows.size() - 1);
+            if (hasNext) {
+                page.setNextCursor(new AsListCursor(false, sortField, sortDir,
+                        sortKeyOf(last, sortField), last.getAsId()).encode());
+            }
+            if (hasPrev) {
+                page.setPrevCursor(new AsListCursor(true, sortField, sortDir,
+                        sortKeyOf(first, sortField), first.getAsId()).encode());
+            }
+        }
+        return page;
+    }
+
+    //========================================================================
+    // 1. AS 목록 필터 옵션별 건수(facet)
+    // Param : params (buildListParams 결과)
+    // 설명  : 목록과 같은 필터 SQL(__as_list_rows) 위에서 facet 별 GROUP BY 건수 조회
+    //        각 facet 은 자기 조건만 뺀 나머지가 모두 맞는 AS 를 값별로 집계
+    //        (옵션 체크 시 바뀔 건수를 미리 보여주기 위함, 행을 앱으로 가져오지 않음)
+    //        진행도 facet 은 보류도 건수를 보여야 하므로 includeHold=true
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public AsFacetDto selectFacets(Map<String, Object> params) {
+        Map<String, Object> byStatus = facetParams(params, "status");
+        byStatus.put("statuses",    List.of());
+        byStatus.put("includeHold", true);
+        Map<String, Object> byType = facetParams(params, "type");
+        byType.put("types",      List.of());
+        byType.put("includeEtc", false);
+        Map<String, Object> byTable = facetParams(params, "table");
+        byTable.put("tables", List.of());
+        Map<String, Object> byFarm = facetParams(params, "farm");
+        byFarm.put("farms",     List.of());
+        byFarm.put("farmLimit", FARM_FACET_LIMIT);
+
+        List<Map<String, Object>> total = asMapper.selectAsFacetCounts(facetParams(params, "total"));
+
+        AsFacetDto dto = new AsFacetDto();
+        dto.setTotal(total.isEmpty() ? 0 : countOf(total.get(0)));
+        dto.setStatuses(sortedByCount(asMapper.selectAsFacetCounts(byStatus)));
+        dto.setTypes(sortedByCount(asMapper.selectAsFacetCounts(byType)));
+        dto.setTables(sortedByCount(asMapper.selectAsFacetCounts(byTable)));
+        dto.setFarms(asMapper.selectAsFacetCounts(byFarm).stream()
+                .map(r -> {
+                    Map<String, Object> m = new LinkedHashMap<>();
+                    m.put("farmCode", r.get("facetValue"));
+                    m.put("farmName", r.get("farmName"));
+                    m.put("count",    countOf(r));
+                    return m;
+                })
+                .toList());
+        return dto;
+    }
+
+    private static Map<String, Object> facetParams(Map<String, Object> params, String facet) {
+        Map<String, Object> p = new HashMap<>(params);
+        p.put("facet", facet);
+        return p;
+    }
+
+    // COUNT(*) 타입은 DB 마다 다름 (MSSQL int, H2 bigint)
+    private static int countOf(Map<String, Object> row) {
+        return ((Number) row.get("cnt")).intValue();
+    }
+
+    private static Map<String, Integer> sortedByCount(List<Map<String, Object>> rows) {
+        Map<String, Integer> out = new LinkedHashMap<>();
+        rows.stream()
+                .filter(r -> r.get("facetValue") != null)
+                .sorted(Comparator.<Map<String, Object>>comparingInt(AsListService::countOf).reversed()
+                        .thenComparing(r -> r.get("facetValue").toString()))
+                .forEach(r -> out.put(r.get("facetValue").toString(), countOf(r)));
+        return out;
+    }
+
+    private static Object sortKeyOf(AsDto d, String sortField) {
+        return switch (sortField) {
+            case "farmName"    -> d.getFarmName();
+            case "farmCode"    -> d.getFarmCode();
+            case "regionName"  -> d.getRegionName();
+            case "asType"      -> d.getAsType();
+            case "projectName" -> d.getProjectName();
+            case "reqDate"     -> d.getReqDate();
+            case "planDate"    -> d.getPlanDate();
+            case "regDate"     -> d.getRegDate();
+            default            -> d.getAsId();
+        };
+    }
+
+    private static List<String> csvToList(String s) {
+        if (s == null || s.isBlank()) return List.of();
+        return Arrays.stream(s.split(","))
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,119 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsScheduleBulkDto;
+import com.inpro.asBoard.as.dto.AsScheduleBulkResultDto;
+import com.inpro.asBoard.as.dto.AsScheduleDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class AsScheduleService {
+
+    public static final int MAX_BULK_ITEMS = 500;
+
+    private final AsMapper asMapper;
+    private final AsStatusService asStatusService;
+    private final ListCountCache listCountCache;
+    private final AsDetailCache asDetailCache;
+    private final AsDataVersion asDataVersion;
+
+    //========================================================================
+    // 1. 일정 일괄 완료/예정일 변경
+    // Param : items (required, 1~500건)
+    // 설명  : 현장 방문 후 여러 AS 의 일정을 한 번에 마감할 때 사용 (한 트랜잭션)
+    //        현재 값 200건 단위 조회 → 바뀌는 항목만 골라
+    //        완료일은 IN 목록 UPDATE, 예정일은 CASE 식 UPDATE 로 컬럼 단위 반영
+    //        상태 프로젝션은 바뀐 AS 만 한 번에 재계산
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @Transactional(rollbackFor = Exception.class)
+    public AsScheduleBulkResultDto applyBulk(List<AsScheduleBulkDto.Item> items) {
+        LocalDateTime now = LocalDateTime.now();   // 단건 완료와 같이 서버 시각 기준
+        AsScheduleBulkResultDto out = new AsScheduleBulkResultDto();
+
+        // 1) 형식 검사 + 중복 제거 (결과는 요청 순서 유지)
+        Map<Long, AsScheduleBulkDto.Item> valid = new LinkedHashMap<>();
+        List<AsScheduleBulkResultDto.Item> pending = new ArrayList<>();
+        for (AsScheduleBulkDto.Item it : items) {
+            AsScheduleBulkResultDto.Item r = new AsScheduleBulkResultDto.Item();
+            r.setScheduleId(it == null ? null : it.getScheduleId());
+            out.getResults().add(r);
+            if (it == null || it.getScheduleId() == null) {
+                reject(r, "INVALID", "scheduleId 누락");
+            } else if (!Boolean.TRUE.equals(it.getComplete()) && it.getPlanDate() == null) {
+                reject(r, "INVALID", "complete 또는 planDate 필요");
+            } else if (valid.putIfAbsent(it.getScheduleId(), it) != null) {
+                reject(r, "INVALID", "중복된 scheduleId");
+            } else {
+                pending.add(r);
+            }
+        }
+
+        // 2) 현재 값 조회
+        Map<Long, AsScheduleDto> current = new HashMap<>();
+        AsChildWriter.inChunks(new ArrayList<>(valid.keySet()),
+                ids -> asMapper.selectSchedulesByIds(ids).forEach(s -> current.put(s.getScheduleId(), s)));
+
+        // 3) 바뀌는 컬럼만 분류
+        List<Long> toComplete = new ArrayList<>();
+        List<AsScheduleDto> toReplan = new ArrayList<>();
+        Set<Long> touchedAs = new LinkedHashSet<>();
+        for (AsScheduleBulkResultDto.Item r : pending) {
+            AsScheduleBulkDto.Item it = valid.get(r.getScheduleId());
+            AsScheduleDto cur = current.get(r.getScheduleId());
+            if (cur == null) {
+                reject(r, "NOT_FOUND", "일정 없음 (삭제되었거나 잘못된 ID)");
+                continue;
+            }
+            boolean complete = Boolean.TRUE.equals(it.getComplete()) && cur.getCompleteDate() == null;
+            boolean replan = it.getPlanDate() != null && !sameMinute(cur.getPlanDate(), it.getPlanDate());
+
+            r.setAsId(cur.getAsId());
+            r.setPlanDate(replan ? it.getPlanDate() : cur.getPlanDate());
+            r.setCompleteDate(complete ? now : cur.getCompleteDate());
+            r.setResult(complete || replan ? "OK" : "UNCHANGED");
+
+            if (complete) toComplete.add(cur.getScheduleId());
+            if (replan) {
+                AsScheduleDto s = new AsScheduleDto();
+                s.setScheduleId(cur.getScheduleId());
+                s.setPlanDate(it.getPlanDate());
+                toReplan.add(s);
+            }
+            if (complete || replan) {
+                touchedAs.add(cur.getAsId());
+                out.setUpdated(out.getUpdated() + 1);
+            }
+        }
+
+        // 4) 반영
+        AsChildWriter.inChunks(toComplete, ids -> asMapper.completeSchedules(ids, now));
+        AsChildWriter.inChunks(toReplan, asMapper::updateSchedulePlanDates);
+        if (!touchedAs.isEmpty()) {
+            AsChildWriter.inChunks(new ArrayList<>(touchedAs), asMapper::touchAsHeaders);   // 변경분 조회용
+            asStatusService.refreshMany(touchedAs);
+            listCountCache.invalidateAfterCommit();
+            asDetailCache.invalidateAfterCommit(touchedAs);
+            asDataVersion.bumpAfterCommit();
+        }
+        return out;
+    }
+
+    private static void reject(AsScheduleBulkResultDto.Item r, String result, String message) {
+        r.setResult(result);
+        r.setMessage(message);
+    }
+
+    // 화면 입력 단위(분)까지 같으면 변경 없음
+    private static boolean sameMinute(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) return a == b;
+        return a.truncatedTo(ChronoUnit.MINUTES).equals(b.truncatedTo(ChronoUnit.MINUTES));
+    }
+}
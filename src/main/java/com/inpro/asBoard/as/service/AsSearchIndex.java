@@ -0,0 +1,347 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsSearchIndex {
+
+    // SQL IN 절로 넘길 후보 상한 (초과 시 LIKE 로 처리 → MSSQL 파라미터 2100개 제한 회피)
+    public static final int MAX_CANDIDATES = 1000;
+
+    // 필드 순서 = 가중치 순서 (농장명, 농장코드, 프로젝트, 지역, AS구분, 담당자, 요청자, 요청내용)
+    private static final int[] FIELD_WEIGHTS = {5, 5, 3, 2, 2, 2, 2, 1};
+
+    // 문서 본문 = 정규화한 8개 필드를 SEP 로 이어붙인 문자열 1개 (원문은 보관하지 않음)
+    private static final char SEP = '\u001F';
+
+    // 기준 색인 : 재구성 때 통째로 만들고 이후 변경하지 않음
+    //   asIds[ord] 오름차순, texts[ord] 본문, postings bigram → 문서 순번(ord) 오름차순 int[]
+    private record Base(long[] asIds, String[] texts, Map<Integer, int[]> postings) {
+        static final Base EMPTY = new Base(new long[0], new String[0], Map.of());
+    }
+
+    private final AsMapper asMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Base base = Base.EMPTY;
+    // 재구성 이후 단건 변경분 : 기준 색인의 해당 순번은 dead 처리, 새 본문은 delta 에 (다음 재구성 때 비워짐)
+    private final BitSet dead = new BitSet();
+    private final Map<Long, String> delta = new HashMap<>();
+    private final Map<Integer, Set<Long>> deltaPostings = new HashMap<>();
+    private volatile boolean ready = false;
+
+    // 재구성 중 들어온 단건 변경 (교체 후 다시 반영)
+    private final Set<Long> pendingDuringRebuild = new HashSet<>();
+    private boolean rebuilding = false;
+
+    //========================================================================
+    // 1. 전체 재구성
+    // 2. URL : (Component) 기동 시(AsWarmup) / 매일 00:30
+    // 3. Param :
+    // 4. 설명 : 사용중 AS 전체를 Cursor 로 읽어 새 색인을 만든 뒤 교체 (조회는 그동안 기존 색인/LIKE 사용)
+    //          농장 마스터(농장명/지역/프로젝트) 변경분도 여기서 반영
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 원문 사본 제거, 포스팅을 순번 int[] 로 압축, Cursor 로 순회
+    //         agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Base newBase;
+        try {
+            newBase = transactionTemplate.execute(status -> {
+                try (Cursor<AsDto> rows = asMapper.selectAsSearchDocCursor()) {
+                    return build(rows);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try { rebuilding = false; } finally { lock.writeLock().unlock(); }
+            throw e;
+        }
+
+        List<Long> pending;
+        lock.writeLock().lock();
+        try {
+            base = newBase;
+            dead.clear();
+            delta.clear();
+            deltaPostings.clear();
+            rebuilding = false;
+            pending = new ArrayList<>(pendingDuringRebuild);
+            pendingDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        pending.forEach(this::reindex);
+        log.info("AS search index rebuilt: docs={}, grams={}", newBase.asIds().length, newBase.postings().size());
+    }
+
+    //========================================================================
+    // 1. 단건 재색인 (커밋 후)
+    // 2. URL : (Component) 접수 등록/수정/삭제 후 호출
+    // 3. Param : asId (required)
+    // 4. 설명 : 트랜잭션 안이면 COMMIT 후 DB 값을 다시 읽어 반영, 아니면 즉시
+    //          삭제(USE_FLAG=0)된 AS 는 조회되지 않으므로 색인에서 빠짐
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void reindexAfterCommit(Long asId) {
+        if (asId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(asId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                reindex(asId);
+            }
+        });
+    }
+
+    private void reindex(Long asId) {
+        List<AsDto> rows = asMapper.selectAsSearchDocs(List.of(asId));
+        String text = rows.isEmpty() ? null : textOf(rows.get(0));
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) pendingDuringRebuild.add(asId);
+            int ord = Arrays.binarySearch(base.asIds(), asId);
+            if (ord >= 0) dead.set(ord);
+            String old = delta.remove(asId);
+            if (old != null) {
+                for (int g : gramsOf(old)) {
+                    Set<Long> p = deltaPostings.get(g);
+                    if (p == null) continue;
+                    p.remove(asId);
+                    if (p.isEmpty()) deltaPostings.remove(g);
+                }
+            }
+            if (text != null) {
+                delta.put(asId, text);
+                for (int g : gramsOf(text)) deltaPostings.computeIfAbsent(g, k -> new HashSet<>()).add(asId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //========================================================================
+    // 1. q 후보 AS_ID 조회
+    // 2. URL : (Component) 목록/건수 쿼리 파라미터 구성 시
+    // 3. Param : q (optional)
+    // 4. 설명 : 8개 컬럼 중 하나라도 q 를 포함(LIKE '%q%' 와 동일, 대소문자 무시)하는 AS_ID 목록
+    //          색인 미준비 / 1글자 / 후보 상한 초과 시 null → 기존 LIKE 조건 사용
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<Long> candidates(String q) {
+        List<long[]> hits = match(q);
+        if (hits == null || hits.size() > MAX_CANDIDATES) return null;
+        return hits.stream().map(h -> h[0]).toList();
+    }
+
+    //========================================================================
+    // 1. q 순위 검색
+    // 2. URL : (Component) /api/as/search
+    // 3. Param : q (required), limit (required)
+    // 4. 설명 : 일치 필드 가중치(농장명/코드 > 프로젝트 > 지역/구분/담당/요청자 > 내용)
+    //          + 앞부분 일치 가산점 합계 내림차순, 동점은 최신 AS 우선
+    //          반환 map : asId, score, farmCode, farmName, projectName, asType
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 표시 컬럼은 상위 limit 건만 DB 재조회 (색인은 원문 미보관)
+    //========================================================================
+    public List<Map<String, Object>> search(String q, int limit) {
+        List<long[]> hits = match(q);
+        if (hits == null || hits.isEmpty() || limit <= 0) return List.of();
+
+        hits.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+        List<long[]> top = hits.subList(0, Math.min(limit, hits.size()));
+
+        Map<Long, AsDto> rows = new HashMap<>();
+        for (AsDto d : asMapper.selectAsSearchDocs(top.stream().map(h -> h[0]).toList())) {
+            rows.put(d.getAsId(), d);
+        }
+
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (long[] h : top) {
+            AsDto d = rows.get(h[0]);
+            if (d == null) continue;   // 재색인 직전 삭제된 AS
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("asId",        d.getAsId());
+            m.put("score",       h[1]);
+            m.put("farmCode",    d.getFarmCode());
+            m.put("farmName",    d.getFarmName());
+            m.put("projectName", d.getProjectName());
+            m.put("asType",      d.getAsType());
+            out.add(m);
+        }
+        return out;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // [asId, score] 목록. 색인 미사용 조건이면 null
+    private List<long[]> match(String q) {
+        if (!ready || q == null) return null;
+        String nq = normalize(q.trim());
+        if (nq.length() < 2) return null;
+
+        int[] grams = gramsOf(nq);
+
+        lock.readLock().lock();
+        try {
+            List<long[]> hits = new ArrayList<>();
+
+            // 기준 색인 : 가장 짧은 포스팅부터 교집합 (순번 오름차순 → 이진 탐색)
+            Base b = base;
+            int[][] lists = new int[grams.length][];
+            boolean all = true;
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = b.postings().get(grams[i]);
+                if (lists[i] == null) { all = false; break; }
+            }
+            if (all) {
+                Arrays.sort(lists, Comparator.comparingInt(a -> a.length));
+                outer:
+                for (int ord : lists[0]) {
+                    if (dead.get(ord)) continue;
+                    for (int i = 1; i < lists.length; i++) {
+                        if (Arrays.binarySearch(lists[i], ord) < 0) continue outer;
+                    }
+                    // bigram 교집합은 후보일 뿐 → 실제 부분문자열 포함 여부 확인하며 점수 계산
+                    long score = score(b.texts()[ord], nq);
+                    if (score > 0) hits.add(new long[]{b.asIds()[ord], score});
+                }
+            }
+
+            // 재구성 이후 변경분
+            List<Set<Long>> sets = new ArrayList<>();
+            for (int g : grams) {
+                Set<Long> p = deltaPostings.get(g);
+                if (p == null) return hits;
+                sets.add(p);
+            }
+            sets.sort(Comparator.comparingInt(Set::size));
+            outer:
+            for (Long id : sets.get(0)) {
+                for (int i = 1; i < sets.size(); i++) {
+                    if (!sets.get(i).contains(id)) continue outer;
+                }
+                long score = score(delta.get(id), nq);
+                if (score > 0) hits.add(new long[]{id, score});
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 필드별 포함 시 가중치 + 필드 맨 앞 일치 가산점
+    static long score(String text, String nq) {
+        long score = 0;
+        int start = 0;
+        for (int f = 0; f < FIELD_WEIGHTS.length && start <= text.length(); f++) {
+            int end = text.indexOf(SEP, start);
+            if (end < 0) end = text.length();
+            int at = text.indexOf(nq, start);
+            if (at >= 0 && at + nq.length() <= end) score += FIELD_WEIGHTS[f] + (at == start ? 1 : 0);
+            start = end + 1;
+        }
+        return score;
+    }
+
+    // 순번 = 읽은 순서 (Cursor 가 AS_ID 오름차순이므로 asIds 도 오름차순)
+    private static Base build(Iterable<AsDto> rows) {
+        long[] asIds = new long[1024];
+        List<String> texts = new ArrayList<>();
+        Map<Integer, IntList> postings = new HashMap<>();
+        int n = 0;
+        for (AsDto d : rows) {
+            String text = textOf(d);
+            if (n == asIds.length) asIds = Arrays.copyOf(asIds, n * 2);
+            asIds[n] = d.getAsId();
+            texts.add(text);
+            for (int g : gramsOf(text)) postings.computeIfAbsent(g, k -> new IntList()).add(n);
+            n++;
+        }
+        Map<Integer, int[]> packed = new HashMap<>(postings.size() * 4 / 3 + 1);
+        postings.forEach((g, list) -> packed.put(g, list.toArray()));
+        return new Base(Arrays.copyOf(asIds, n), texts.toArray(new String[0]), packed);
+    }
+
+    static String textOf(AsDto d) {
+        String[] fields = {
+                d.getFarmName(), d.getFarmCode(), d.getProjectName(), d.getRegionName(),
+                d.getAsType(), d.getAsManager(), d.getReqUser(), d.getReqContent()
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) sb.append(SEP);
+            if (fields[i] != null) sb.append(normalize(fields[i]));
+        }
+        return sb.toString();
+    }
+
+    private static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT).replace(SEP, ' ');
+    }
+
+    // 중복 없는 bigram (두 글자를 int 하나로), 필드 경계(SEP)를 걸치는 조합은 제외
+    private static int[] gramsOf(String v) {
+        Set<Integer> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= v.length(); i++) {
+            char a = v.charAt(i), b = v.charAt(i + 1);
+            if (a == SEP || b == SEP) continue;
+            grams.add((a << 16) | b);
+        }
+        int[] out = new int[grams.size()];
+        int i = 0;
+        for (int g : grams) out[i++] = g;
+        return out;
+    }
+
+    private static final class IntList {
+        private int[] a = new int[4];
+        private int n = 0;
+
+        void add(int v) {
+            if (n == a.length) a = Arrays.copyOf(a, n * 2);
+            a[n++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, n);
+        }
+    }
+}
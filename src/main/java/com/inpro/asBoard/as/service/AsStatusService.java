@@ -0,0 +1,100 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsStatusService {
+
+    private static final int REBUILD_CHUNK = 2_000;   // 기동 재구성 1문장당 AS_ID 구간
+
+    private final AsMapper asMapper;
+    private final AsDataVersion asDataVersion;
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 갱신(단건)
+    // Param : asId (required)
+    // 설명  : 접수 등록/수정/삭제 트랜잭션 안에서 호출 → 같은 커밋으로 반영
+    //        삭제된 AS 는 행이 제거만 되고 다시 생성되지 않음
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void refresh(Long asId) {
+        if (asId == null) return;
+        asMapper.deleteAsStatusByAsId(asId);
+        asMapper.insertAsStatusMissing(asId, null);
+    }
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 갱신(일정 기준)
+    // Param : scheduleId (required)
+    // 설명  : 일정 단건 완료 처리 등 AS ID 를 모르는 변경 후 호출 (찾은 AS ID 반환)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Long refreshBySchedule(Long scheduleId) {
+        Long asId = asMapper.selectAsIdByScheduleId(scheduleId);
+        refresh(asId);
+        return asId;
+    }
+
+    //========================================================================
+    // 1. AS 상태 프로젝션 갱신(다건)
+    // Param : asIds (optional)
+    // 설명  : 일정 일괄 처리 / 일괄 등록처럼 여러 AS 가 바뀐 트랜잭션에서 호출
+    //        200건 단위로 IN 삭제 + 같은 AS 만 다시 계산 (AS 수만큼 왕복하지 않고,
+    //        프로젝션 전체 누락 검사도 하지 않음)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void refreshMany(Collection<Long> asIds) {
+        if (asIds == null || asIds.isEmpty()) return;
+        AsChildWriter.inChunks(new ArrayList<>(asIds), ids -> {
+            asMapper.deleteAsStatusByAsIds(ids);
+            asMapper.insertAsStatusMissing(null, ids);
+        });
+    }
+
+    //========================================================================
+    // 1. 자정 스윕
+    // Param :
+    // 설명  : 날짜가 바뀌며 대기→임박→지연 으로 넘어가거나 다음 예정일이 지나간 행만 재계산
+    //        (누락 행도 같이 채움)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    @Transactional(rollbackFor = Exception.class)
+    public void sweepDue() {
+        int removed  = asMapper.deleteAsStatusDue();
+        int inserted = asMapper.insertAsStatusMissing(null, null);
+        log.info("AS status sweep: due={}, refreshed={}", removed, inserted);
+        asDataVersion.bumpAfterCommit();
+    }
+
+    //========================================================================
+    // 1. 전체 재구성
+    // Param :
+    // 설명  : 기동 시 1회(AsWarmup). 중단 중 놓친 스윕/외부 변경분까지 전부 다시 계산
+    //        전체 DELETE + INSERT 한 트랜잭션 대신 AS_ID REBUILD_CHUNK 구간별 MERGE(값이 다른 행만)
+    //        → 문장마다 바로 커밋되어 목록 조회/쓰기가 재구성 끝까지 막히지 않음
+    //        재구성 중에도 목록은 행이 없는 AS 를 보류/대기로 표시/필터 (__as_status_label)
+    // 작성  : agent(26.10.17)
+    // 수정  : agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    public void rebuildAll() {
+        long maxAsId = asMapper.selectMaxAsId();
+        int changed = 0;
+        for (long from = 0; from <= maxAsId; from += REBUILD_CHUNK) {
+            changed += asMapper.mergeAsStatusRange(from, from + REBUILD_CHUNK);
+            changed += asMapper.deleteAsStatusOrphans(from, from + REBUILD_CHUNK);
+        }
+        log.info("AS status rebuilt: maxAsId={}, changed={}", maxAsId, changed);
+        if (changed > 0) asDataVersion.bumpAfterCommit();
+    }
+}
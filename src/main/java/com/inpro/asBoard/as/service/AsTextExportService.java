@@ -0,0 +1,186 @@
+package com.inpro.asBoard.as.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.dto.AsScheduleRowDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+@Service
+@RequiredArgsConstructor
+public class AsTextExportService {
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        // csv | ndjson (대소문자 무시), 그 외 null
+        public static Format of(String s) {
+            if (s == null) return null;
+            for (Format f : values()) if (f.extension.equalsIgnoreCase(s.trim())) return f;
+            return null;
+        }
+    }
+
+    // AS 목록 내보내기 컬럼 (키 순서 = 출력 순서, 엑셀 AS내역 시트와 같은 항목)
+    public static final List<String> AS_LIST_COLUMNS = List.of(
+            "asId", "farmName", "farmCode", "regionName", "projectName", "asType", "statusLabel",
+            "reqDate", "planDate", "reqUser", "asManager", "reqContent");
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final AsMapper asMapper;
+    private final ObjectMapper objectMapper;
+
+    //========================================================================
+    // 1. 일정 행 CSV/NDJSON 스트리밍 출력
+    // Param : params (required, AsExportService.buildScheduleParams 결과)
+    //         colKeys (required, AsExportService.resolveColumns 결과)
+    //         format (required), out (required, 응답 스트림 - gzip 여부는 호출 측)
+    //         bom (CSV 만 : true 면 UTF-8 BOM 으로 시작)
+    // 설명  : 엑셀과 같은 Cursor 로 한 행씩 읽어 바로 기록 (중간 리스트 없음)
+    //        헤더/필드명은 컬럼 키, 날짜는 yyyy-MM-ddTHH:mm:ss
+    //        기본은 BOM 없는 UTF-8 (BI 적재 시 첫 컬럼명이 BOM+asId 로 읽히지 않도록)
+    //        엑셀에서 바로 열 때만 bom=true (없으면 엑셀이 MS949 로 읽어 한글 깨짐)
+    // 작성  : agent(26.10.17)
+    // 수정  : agent(26.10.17) CSV BOM 을 선택(bom)으로 변경
+    //========================================================================
+    @Transactional(readOnly = true)
+    public void writeSchedule(Map<String, Object> params, List<String> colKeys, Format format, boolean bom,
+                              OutputStream out) throws IOException {
+        try (Cursor<AsScheduleRowDto> rows = asMapper.selectScheduleRowCursorForExport(params)) {
+            write(rows, colKeys, AsTextExportService::scheduleValue, format, bom, out);
+        }
+    }
+
+    //========================================================================
+    // 1. AS 목록 CSV/NDJSON 스트리밍 출력
+    // Param : params (required, AsListService.buildListParams 결과)
+    //         format (required), bom (writeSchedule 과 같음), out (required)
+    // 설명  : 목록 화면과 같은 필터/정렬로 AS 헤더 1건 = 1행 (AS_LIST_COLUMNS)
+    // 작성  : agent(26.10.17)
+    // 수정  : agent(26.10.17) CSV BOM 을 선택(bom)으로 변경
+    //========================================================================
+    @Transactional(readOnly = true)
+    public void writeAsList(Map<String, Object> params, Format format, boolean bom,
+                            OutputStream out) throws IOException {
+        try (Cursor<AsDto> rows = asMapper.selectAsListCursorForExport(AsExportService.toListCursorParams(params))) {
+            write(rows, AS_LIST_COLUMNS, AsTextExportService::asListValue, format, bom, out);
+        }
+    }
+
+    private <T> void write(Iterable<T> rows, List<String> keys, BiFunction<T, String, Object> value,
+                           Format format, boolean bom, OutputStream out) throws IOException {
+        if (format == Format.NDJSON) {
+            // 한 줄 = JSON 객체 1개. 루트 값 구분자 대신 줄바꿈 직접 기록
+            JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+            for (T row : rows) {
+                gen.writeStartObject();
+                for (String k : keys) {
+                    Object v = value.apply(row, k);
+                    if (v == null)               gen.writeNullField(k);
+                    else if (v instanceof Long n) gen.writeNumberField(k, n);
+                    else                          gen.writeStringField(k, v.toString());
+                }
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+            }
+            gen.close();
+            return;
+        }
+
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        if (bom) w.write('\uFEFF');   // UTF-8 BOM : 엑셀이 MS949 로 읽지 않도록
+        writeCsvLine(w, keys);
+        for (T row : rows) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (i > 0) w.write(',');
+                Object v = value.apply(row, keys.get(i));
+                if (v != null) writeCsvField(w, v.toString());
+            }
+            w.write("\r\n");
+        }
+        w.flush();
+    }
+
+    private static Object scheduleValue(AsScheduleRowDto row, String key) {
+        return switch (key) {
+            case "asId"          -> row.getAsId();
+            case "farmName"      -> row.getFarmName();
+            case "farmCode"      -> row.getFarmCode();
+            case "regionName"    -> row.getRegionName();
+            case "projectName"   -> row.getProjectName();
+            case "asType"        -> row.getAsType();
+            case "reqDate"       -> fmt(row.getReqDate());
+            case "planDate"      -> fmt(row.getPlanDate());
+            case "completeDate"  -> fmt(row.getCompleteDate());
+            case "completedMark" -> "완료".equals(row.getCompletionLabel()) ? "O" : "X";
+            default              -> null;
+        };
+    }
+
+    private static Object asListValue(AsDto as, String key) {
+        return switch (key) {
+            case "asId"        -> as.getAsId();
+            case "farmName"    -> as.getFarmName();
+            case "farmCode"    -> as.getFarmCode();
+            case "regionName"  -> as.getRegionName();
+            case "projectName" -> as.getProjectName();
+            case "asType"      -> as.getAsType();
+            case "statusLabel" -> as.getStatusLabel();
+            case "reqDate"     -> fmt(as.getReqDate());
+            case "planDate"    -> fmt(as.getPlanDate());
+            case "reqUser"     -> as.getReqUser();
+            case "asManager"   -> as.getAsManager();
+            case "reqContent"  -> as.getReqContent();
+            default            -> null;
+        };
+    }
+
+    private static String fmt(LocalDateTime t) {
+        return t == null ? null : t.format(DATE_TIME);
+    }
+
+    private static void writeCsvLine(Writer w, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) w.write(',');
+            writeCsvField(w, values.get(i));
+        }
+        w.write("\r\n");
+    }
+
+    // RFC 4180 : 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private static void writeCsvField(Writer w, String s) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char ch = s.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) { w.write(s); return; }
+        w.write('"');
+        w.write(s.replace("\"", "\"\""));
+        w.write('"');
+    }
+}
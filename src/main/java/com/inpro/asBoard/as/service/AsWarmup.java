@@ -0,0 +1,81 @@
+package com.inpro.asBoard.as.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsWarmup {
+
+    private final FarmDirectory farmDirectory;
+    private final SidoResolver sidoResolver;
+    private final EquipPresenceIndex equipPresenceIndex;
+    private final AsStatusService asStatusService;
+    private final DashFactCube dashFactCube;
+    private final DashDailyStatService dashDailyStatService;
+    private final AsSearchIndex asSearchIndex;
+
+    private volatile Thread worker;
+
+    //========================================================================
+    // 1. 기동 시 메모리 적재/재구성
+    // 2. URL : (Component) ApplicationReadyEvent
+    // 3. Param :
+    // 4. 설명 : 적재 작업을 백그라운드 스레드 1개(as-warmup)에서 순서대로 실행 → 기동이 적재 시간만큼 늦어지지 않고
+    //          DB 커넥션도 한 번에 1개만 사용. 적재 전 조회는 각 컴포넌트의 대체 경로(SQL/지연 적재/503)로 처리
+    //          상태 → 가벼운 것(농장/시도/장비 보유) → 대시보드 → 검색 색인 순. 한 작업 실패는 로그만 남기고 다음 진행
+    //          상태 프로젝션을 가장 먼저 : 목록 상태 필터가 프로젝션 컬럼만 비교 (행이 없는 AS 는 필터에서 빠짐)
+    //          일별 롤업을 사실 큐브보다 먼저 보정 : 큐브 준비 전 시계열/월별 조회가 롤업을 읽음
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 일별 롤업 보정을 사실 큐브 적재 앞으로
+    //          agent(26.10.17) 상태 프로젝션 재구성을 맨 앞으로
+    //========================================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("AS status",             asStatusService::rebuildAll);
+        steps.put("farm directory",        farmDirectory::refresh);
+        steps.put("sido resolver",         sidoResolver::refresh);
+        steps.put("equip presence index",  equipPresenceIndex::loadAll);
+        steps.put("dash daily stat",       dashDailyStatService::rebuildAll);
+        steps.put("dash fact cube",        dashFactCube::rebuild);
+        steps.put("AS search index",       asSearchIndex::rebuild);
+
+        Thread t = new Thread(() -> run(steps), "as-warmup");
+        t.setDaemon(true);
+        worker = t;
+        t.start();
+    }
+
+    private void run(Map<String, Runnable> steps) {
+        long start = System.currentTimeMillis();
+        for (Map.Entry<String, Runnable> step : steps.entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("Warmup stopped before {}", step.getKey());
+                return;
+            }
+            long t0 = System.currentTimeMillis();
+            try {
+                step.getValue().run();
+                log.debug("Warmup {}: {} ms", step.getKey(), System.currentTimeMillis() - t0);
+            } catch (RuntimeException e) {
+                log.warn("Warmup {} failed", step.getKey(), e);
+            }
+        }
+        log.info("Warmup done: {} ms", System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Thread t = worker;
+        if (t != null) t.interrupt();
+    }
+}
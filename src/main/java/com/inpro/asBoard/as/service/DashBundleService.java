@@ -0,0 +1,147 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.DashWidgetResultDto;
+import com.inpro.asBoard.as.dto.DashWidgetSpecDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashBundleService {
+
+    public static final int MAX_WIDGETS = 32;
+
+    private static final long TIMEOUT_MILLIS = 10_000L;   // 묶음 전체 대기 상한
+
+    private record Outcome(Object data, long elapsedMs) {}
+
+    private final DashService dashService;
+    private final DbWorkerPool dbWorkerPool;   // 장비 카탈로그/엑셀과 같은 커넥션 예산 (가득 차면 호출 스레드에서 실행)
+
+    //========================================================================
+    // 1. 대시보드 위젯 묶음 조회
+    // Param : specs (required, 최대 MAX_WIDGETS 건)
+    // 설명  : 위젯별 DashService 호출을 병렬 실행 후 id → 결과 로 묶어 반환 (요청 순서 유지)
+    //        실패/시간 초과는 해당 위젯만 ERROR/TIMEOUT, 나머지는 정상 반환
+    //        → 소요 시간 = 가장 느린 위젯 1개
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Map<String, DashWidgetResultDto> evaluate(List<DashWidgetSpecDto> specs) {
+        Map<String, DashWidgetSpecDto> byId = new LinkedHashMap<>();
+        for (int i = 0; i < specs.size(); i++) {
+            DashWidgetSpecDto spec = specs.get(i);
+            String id = spec.getId() == null || spec.getId().isBlank() ? String.valueOf(i) : spec.getId();
+            byId.put(id, spec);
+        }
+
+        long start = System.currentTimeMillis();
+        Map<String, Future<Outcome>> futures = new LinkedHashMap<>();
+        byId.forEach((id, spec) -> futures.put(id, dbWorkerPool.shortTasks().submit(() -> {
+            long t0 = System.currentTimeMillis();
+            Object data = run(spec.getType(), spec.getParams() == null ? Map.of() : spec.getParams());
+            return new Outcome(data, System.currentTimeMillis() - t0);
+        })));
+
+        Map<String, DashWidgetResultDto> out = new LinkedHashMap<>();
+        long deadline = start + TIMEOUT_MILLIS;
+        for (Map.Entry<String, Future<Outcome>> f : futures.entrySet()) {
+            DashWidgetResultDto r = new DashWidgetResultDto();
+            r.setType(byId.get(f.getKey()).getType());
+            try {
+                Outcome o = f.getValue().get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                r.setStatus("OK");
+                r.setData(o.data());
+                r.setElapsedMs(o.elapsedMs());
+            } catch (TimeoutException e) {
+                f.getValue().cancel(true);
+                r.setStatus("TIMEOUT");
+                r.setError("timed out after " + TIMEOUT_MILLIS + "ms");
+                r.setElapsedMs(System.currentTimeMillis() - start);
+            } catch (ExecutionException e) {
+                r.setStatus("ERROR");
+                r.setError(messageOf(f.getKey(), r.getType(), e.getCause()));
+                r.setElapsedMs(System.currentTimeMillis() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(x -> x.cancel(true));
+                throw new IllegalStateException("dashboard bundle interrupted");
+            }
+            out.put(f.getKey(), r);
+        }
+        return out;
+    }
+
+    // 위젯 종류 → DashService (단건 API 와 같은 기본값)
+    private Object run(String type, Map<String, String> p) {
+        if (type == null) throw new IllegalArgumentException("type is required");
+        return switch (type) {
+            case "summary"            -> dashService.getSummary();
+            case "monthly"            -> dashService.getMonthlyStats();
+            case "upcoming"           -> dashService.getUpcomingList(intParam(p, "limit", 10));
+            case "aggregate"          -> dashService.aggregate(required(p, "dimension"), param(p, "period", "all"),
+                                                               intParam(p, "topN", 5));
+            case "farms"              -> dashService.getFarmList();
+            case "equipments"         -> dashService.getEquipmentList();
+            case "equipments/by-farm" -> dashService.getEquipmentListByFarm(required(p, "farmCode"));
+            case "farms/by-equipment" -> dashService.getFarmListByEquipment(required(p, "tableName"));
+            case "farm/equipment"     -> dashService.getEquipmentByFarm(param(p, "period", "all"), required(p, "farmCode"));
+            case "farm/category"      -> dashService.getCategoryByFarm(param(p, "period", "all"), required(p, "farmCode"));
+            case "equipment/farm"     -> dashService.getFarmByEquipment(param(p, "period", "all"), required(p, "tableName"));
+            case "equipment/category" -> dashService.getCategoryByEquipment(param(p, "period", "all"), required(p, "tableName"));
+            case "category"           -> dashService.getCategoryByFarmAndEquipment(param(p, "period", "all"),
+                                                               p.get("farmCode"), p.get("tableName"));
+            case "timeSeries", "time-series" -> dashService.getTimeSeries(required(p, "period"), required(p, "bucket"),
+                                                               p.get("farmCode"), p.get("tableName"));
+            case "geo/sido"           -> dashService.getSidoCounts(dateParam(p, "from"), dateParam(p, "to"), p.get("status"));
+            case "geo/sido/farms"     -> dashService.getSidoFarms(required(p, "sido"), dateParam(p, "from"),
+                                                               dateParam(p, "to"), p.get("status"));
+            default -> throw new IllegalArgumentException("unknown widget type: " + type);
+        };
+    }
+
+    private static String messageOf(String id, String type, Throwable cause) {
+        if (cause instanceof ResponseStatusException rse) return rse.getReason();
+        if (cause instanceof IllegalArgumentException) return cause.getMessage();
+        log.warn("Dashboard widget failed: {} ({})", id, type, cause);
+        return "internal error";
+    }
+
+    private static String param(Map<String, String> p, String key, String def) {
+        String v = p.get(key);
+        return v == null || v.isBlank() ? def : v;
+    }
+
+    private static String required(Map<String, String> p, String key) {
+        String v = p.get(key);
+        if (v == null || v.isBlank()) throw new IllegalArgumentException(key + " is required");
+        return v;
+    }
+
+    private static int intParam(Map<String, String> p, String key, int def) {
+        String v = p.get(key);
+        if (v == null || v.isBlank()) return def;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer");
+        }
+    }
+
+    private static LocalDate dateParam(Map<String, String> p, String key) {
+        String v = p.get(key);
+        if (v == null || v.isBlank()) return null;
+        try {
+            return LocalDate.parse(v.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(key + " must be yyyy-MM-dd");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.DashMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashDailyStatService {
+
+    private final DashMapper dashMapper;
+
+    //========================================================================
+    // 1. 일별 롤업 차감(변경 전)
+    // Param : asIds (optional)
+    // 설명  : 접수 수정/삭제 트랜잭션에서 헤더/장비를 바꾸기 전에 호출
+    //        현재(변경 전) 상태의 기여분을 빼고 afterChange 가 새 상태를 더함 → 같은 커밋으로 반영
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void beforeChange(Collection<Long> asIds) {
+        if (asIds == null || asIds.isEmpty()) return;
+        AsChildWriter.inChunks(new ArrayList<>(asIds), dashMapper::mergeDailyStatSubtract);
+    }
+
+    //========================================================================
+    // 1. 일별 롤업 가산(변경 후)
+    // Param : asIds (optional)
+    // 설명  : 접수 등록/수정/삭제 트랜잭션에서 쓰기 후 호출 (삭제된 AS 는 더할 기여분 없음)
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public void afterChange(Collection<Long> asIds) {
+        if (asIds == null || asIds.isEmpty()) return;
+        AsChildWriter.inChunks(new ArrayList<>(asIds), dashMapper::mergeDailyStatAdd);
+    }
+
+    //========================================================================
+    // 1. 전체 재구성
+    // Param :
+    // 설명  : 기동 시 1회(AsWarmup) + 매일 01:10. 롤업 도입 전 데이터 채움(backfill)과
+    //        증감 경로 밖의 변경(직접 SQL 등) 보정
+    //        전체 기여분과의 차이만 MERGE/DELETE → 평소에는 바뀌는 칸이 거의 없어 잠금/로그가 작음
+    // 작성  : agent(26.10.17)
+    // 수정  : agent(26.10.17) 전체 삭제 + 전체 INSERT → 차이분 반영
+    //        agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    @Scheduled(cron = "0 10 1 * * *", zone = "Asia/Seoul")
+    @Transactional(rollbackFor = Exception.class)
+    public void rebuildAll() {
+        int merged = dashMapper.mergeDailyStatAll();
+        int deleted = dashMapper.deleteDailyStatStale();
+        log.info("Dash daily stat rebuilt: merged={}, deleted={}", merged, deleted);
+    }
+}
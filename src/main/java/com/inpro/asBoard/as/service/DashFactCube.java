@@ -0,0 +1,391 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.DashFactRow;
+import com.inpro.asBoard.as.mapper.DashMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashFactCube {
+
+    // 집계 축
+    public enum Dim { FARM, TABLE, TYPE, CATEGORY4, CATEGORY, DAY, MONTH }
+
+    // 그룹 1개 : key = 농가코드 / 테이블명 / 유형 / 라벨 / yyyy-MM-dd / yyyy-MM, count = AS 건수
+    public record Group(String key, int count, long minAsId) {}
+
+    // 기간 미지정 ([ALL_FROM, ALL_TO) = 전체)
+    public static final int ALL_FROM = Integer.MIN_VALUE;
+    public static final int ALL_TO   = Integer.MAX_VALUE;
+
+    public static final String[] CATEGORY_LABELS = {"장비", "네트워크", "모듈", "기타"};
+    private static final int ETC = 3;
+
+    private static final byte LIVE = 1;   // 사용중 행
+    private static final byte HEAD = 2;   // AS 의 첫 행 (헤더 단위 집계는 이 행만)
+    private static final int NO_DAY = Integer.MIN_VALUE;   // REG_DATE 없음 : 기간/일/월 집계 제외
+
+    private final DashMapper dashMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Store store = new Store();
+    private volatile boolean ready = false;
+
+    // 재구성 중 들어온 증분 (교체 후 다시 반영)
+    private final Set<Long> pendingDuringRebuild = new HashSet<>();
+    private boolean rebuilding = false;
+
+    //========================================================================
+    // 1. 전체 재구성
+    // 2. URL : (Component) 기동 시(AsWarmup) / 매일 00:40 / 농장 마스터 변경 시
+    // 3. Param :
+    // 4. 설명 : 사실 행 전체를 읽어 새 저장소를 만든 뒤 교체 (그동안 조회는 기존 저장소 또는 SQL)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    @Scheduled(cron = "0 40 0 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Store next = new Store();
+        try {
+            appendAll(next, dashMapper.selectDashFacts(null));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try { rebuilding = false; } finally { lock.writeLock().unlock(); }
+            throw e;
+        }
+
+        List<Long> pending;
+        lock.writeLock().lock();
+        try {
+            store = next;
+            rebuilding = false;
+            pending = new ArrayList<>(pendingDuringRebuild);
+            pendingDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!pending.isEmpty()) refresh(pending);
+        log.info("Dash fact cube rebuilt: rows={}, as={}, farms={}, tables={}",
+                next.size, next.rowsByAs.size(), next.farms.size(), next.tables.size());
+    }
+
+    //========================================================================
+    // 1. AS 단위 증분 반영 (커밋 후)
+    // 2. URL : (Component) 접수 등록/수정/삭제, 일괄 등록 후 호출
+    // 3. Param : asIds (required)
+    // 4. 설명 : 트랜잭션 안이면 COMMIT 후 DB 값을 다시 읽어 해당 AS 행만 교체, 아니면 즉시
+    //          삭제(USE_FLAG=0)된 AS 는 조회되지 않으므로 빠짐
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void refreshAfterCommit(Collection<Long> asIds) {
+        if (asIds == null || asIds.isEmpty()) return;
+        List<Long> ids = asIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                refresh(ids);
+            }
+        });
+    }
+
+    private void refresh(List<Long> asIds) {
+        List<DashFactRow> rows = new ArrayList<>();
+        AsChildWriter.inChunks(asIds, ids -> rows.addAll(dashMapper.selectDashFacts(ids)));
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) pendingDuringRebuild.addAll(asIds);
+            Store s = store;
+            for (Long id : asIds) s.remove(id);
+            appendAll(s, rows);
+            s.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    //========================================================================
+    // 1. 축별 건수 집계
+    // 2. URL : (Component) DashService 대시보드 집계 전부
+    // 3. Param : dim (required)
+    //            fromDay, toDay (required, REG_DATE epochDay [from, to), 전체는 ALL_FROM/ALL_TO)
+    //            farmCode (optional), tableName (optional)
+    // 4. 설명 : 열 배열을 한 번 훑어 축 번호별 건수/최소 AS_ID 누적 (DB 조회 없음)
+    //          장비 테이블 축/필터가 있으면 (AS, 테이블) 행 기준, 아니면 AS 첫 행만 → 항상 AS 건수
+    //          순서는 DAY/MONTH 만 키 순, 나머지는 사전 순서(호출 측에서 정렬)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<Group> count(Dim dim, int fromDay, int toDay, String farmCode, String tableName) {
+        lock.readLock().lock();
+        try {
+            Store s = store;
+            int farmF = -1, tableF = -1;
+            if (farmCode != null && !farmCode.isBlank()) {
+                Integer f = s.farms.find(farmCode);
+                if (f == null) return List.of();
+                farmF = f;
+            }
+            if (tableName != null && !tableName.isBlank()) {
+                Integer t = s.tables.find(tableName);
+                if (t == null) return List.of();
+                tableF = t;
+            }
+            boolean perTable = dim == Dim.TABLE || tableF >= 0;
+            byte need = perTable ? LIVE : (byte) (LIVE | HEAD);
+
+            int[] keys;
+            int base = 0, width;
+            switch (dim) {
+                case FARM      -> { keys = s.farm;  width = s.farms.size(); }
+                case TABLE     -> { keys = s.table; width = s.tables.size(); }
+                case TYPE      -> { keys = s.type;  width = s.types.size(); }
+                case CATEGORY4 -> { keys = s.cat4;  width = CATEGORY_LABELS.length; }
+                case CATEGORY  -> { keys = s.cat;   width = CATEGORY_LABELS.length; }
+                case DAY -> {
+                    keys = s.day;
+                    base = Math.max(s.minDay, fromDay);
+                    width = s.maxDay < base ? 0 : (int) Math.min((long) s.maxDay, (long) toDay - 1) - base + 1;
+                }
+                default -> {   // MONTH
+                    keys = s.month;
+                    base = s.minMonth;
+                    width = s.maxMonth < base ? 0 : s.maxMonth - base + 1;
+                }
+            }
+            if (width <= 0) return List.of();
+
+            int[] cnt = new int[width];
+            long[] min = new long[width];
+            Arrays.fill(min, Long.MAX_VALUE);
+            int[] day = s.day, farm = s.farm, table = s.table;
+            byte[] flags = s.flags;
+            long[] asId = s.asId;
+            for (int i = 0, n = s.size; i < n; i++) {
+                if ((flags[i] & need) != need) continue;
+                int d = day[i];
+                if (d == NO_DAY ? (fromDay != ALL_FROM || toDay != ALL_TO) : (d < fromDay || d >= toDay)) continue;
+                if (farmF >= 0 && farm[i] != farmF) continue;
+                if (perTable) {
+                    int t = table[i];
+                    if (t < 0 || (tableF >= 0 && t != tableF)) continue;
+                }
+                int k = keys[i] - base;
+                if (k < 0 || k >= width) continue;
+                cnt[k]++;
+                if (asId[i] < min[k]) min[k] = asId[i];
+            }
+
+            List<Group> out = new ArrayList<>();
+            for (int k = 0; k < width; k++) {
+                if (cnt[k] == 0) continue;
+                out.add(new Group(keyLabel(s, dim, k + base), cnt[k], min[k]));
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //========================================================================
+    // 1. 농가명 조회
+    // 2. URL : (Component) DashService 농가 축 결과 라벨
+    // 3. Param : farmCode (required)
+    // 4. 설명 : 적재된 농장 마스터 이름, 없으면 null
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public String farmName(String farmCode) {
+        lock.readLock().lock();
+        try {
+            Integer f = store.farms.find(farmCode);
+            return f == null ? null : store.farmNames.get(f);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String keyLabel(Store s, Dim dim, int k) {
+        return switch (dim) {
+            case FARM      -> s.farms.value(k);
+            case TABLE     -> s.tables.value(k);
+            case TYPE      -> s.types.value(k);
+            case CATEGORY4, CATEGORY -> CATEGORY_LABELS[k];
+            case DAY       -> LocalDate.ofEpochDay(k).toString();
+            case MONTH     -> YearMonth.of(Math.floorDiv(k, 12), Math.floorMod(k, 12) + 1).toString();
+        };
+    }
+
+    // AS_ID 순 행 목록 → AS 단위로 묶어 추가
+    private static void appendAll(Store s, List<DashFactRow> rows) {
+        int from = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i == rows.size() || !rows.get(i).getAsId().equals(rows.get(from).getAsId())) {
+                s.append(rows.subList(from, i));
+                from = i;
+            }
+        }
+    }
+
+    // __as_type_label 과 동일 (요약 카드 4분류)
+    static int category4(String asType) {
+        if (asType == null || asType.isBlank() || "(미지정)".equals(asType)) return ETC;
+        String lower = asType.toLowerCase(Locale.ROOT);
+        if (asType.contains("네트워크") || asType.contains("통신") || lower.contains("network") || lower.contains("comm")) return 1;
+        if (asType.contains("모듈") || lower.contains("module") || lower.contains("mdl")) return 2;
+        if (asType.contains("장비") || lower.contains("equip") || lower.contains("eqp")) return 0;
+        return ETC;
+    }
+
+    // selectAggregate(category) 와 동일 (정확히 장비/네트워크/모듈, 나머지 기타)
+    static int category(String asType) {
+        if (asType == null) return ETC;
+        for (int i = 0; i < ETC; i++) if (CATEGORY_LABELS[i].equals(asType.trim())) return i;
+        return ETC;
+    }
+
+    // 값 ↔ 번호 사전
+    private static final class Dict {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String v) {
+            Integer id = ids.get(v);
+            if (id != null) return id;
+            ids.put(v, values.size());
+            values.add(v);
+            return values.size() - 1;
+        }
+
+        Integer find(String v) { return ids.get(v); }
+        String value(int id) { return values.get(id); }
+        int size() { return values.size(); }
+    }
+
+    // 열 저장소 : 행 i = (AS, 장비 테이블) 1개, 같은 AS 의 행은 연속
+    private static final class Store {
+        final Dict farms = new Dict(), tables = new Dict(), types = new Dict();
+        final List<String> farmNames = new ArrayList<>();   // 농가번호 → 농장 마스터 이름
+
+        long[] asId = new long[1024];
+        int[] farm = new int[1024], table = new int[1024], type = new int[1024],
+              cat4 = new int[1024], cat = new int[1024],
+              day = new int[1024], month = new int[1024];
+        byte[] flags = new byte[1024];
+        int size, dead;
+        int minDay = Integer.MAX_VALUE, maxDay = Integer.MIN_VALUE;
+        int minMonth = Integer.MAX_VALUE, maxMonth = Integer.MIN_VALUE;
+        final Map<Long, int[]> rowsByAs = new HashMap<>();
+
+        void append(List<DashFactRow> rows) {
+            ensureCapacity(size + rows.size());
+            int[] idx = new int[rows.size()];
+            for (int k = 0; k < rows.size(); k++) {
+                DashFactRow r = rows.get(k);
+                int i = size++;
+                asId[i] = r.getAsId();
+
+                int f = farms.id(r.getFarmCode() == null ? "" : r.getFarmCode());
+                while (farmNames.size() <= f) farmNames.add(null);
+                farmNames.set(f, r.getFarmName());
+                farm[i] = f;
+
+                table[i] = r.getTableName() == null ? -1 : tables.id(r.getTableName());
+                String t = r.getAsType();
+                type[i] = types.id(t == null ? "(미지정)" : t);
+                cat4[i] = category4(t);
+                cat[i] = category(t);
+
+                if (r.getRegDate() == null) {
+                    day[i] = NO_DAY;
+                    month[i] = NO_DAY;
+                } else {
+                    LocalDate d = r.getRegDate().toLocalDate();
+                    day[i] = (int) d.toEpochDay();
+                    month[i] = d.getYear() * 12 + d.getMonthValue() - 1;
+                    minDay = Math.min(minDay, day[i]);
+                    maxDay = Math.max(maxDay, day[i]);
+                    minMonth = Math.min(minMonth, month[i]);
+                    maxMonth = Math.max(maxMonth, month[i]);
+                }
+                flags[i] = (byte) (LIVE | (k == 0 ? HEAD : 0));
+                idx[k] = i;
+            }
+            if (!rows.isEmpty()) rowsByAs.put(rows.get(0).getAsId(), idx);
+        }
+
+        void remove(Long id) {
+            int[] idx = rowsByAs.remove(id);
+            if (idx == null) return;
+            for (int i : idx) flags[i] = 0;
+            dead += idx.length;
+        }
+
+        // 지운 행이 1/4 을 넘으면 앞으로 당겨 채움 (사전은 유지)
+        void compactIfNeeded() {
+            if (dead < 1024 || dead * 4 < size) return;
+            int w = 0;
+            for (int i = 0; i < size; i++) {
+                if ((flags[i] & LIVE) == 0) continue;
+                asId[w] = asId[i]; farm[w] = farm[i]; table[w] = table[i]; type[w] = type[i];
+                cat4[w] = cat4[i]; cat[w] = cat[i];
+                day[w] = day[i]; month[w] = month[i]; flags[w] = flags[i];
+                w++;
+            }
+            size = w;
+            dead = 0;
+            rowsByAs.clear();
+            for (int i = 0; i < size; ) {
+                int j = i + 1;
+                while (j < size && (flags[j] & HEAD) == 0) j++;
+                int[] idx = new int[j - i];
+                for (int k = 0; k < idx.length; k++) idx[k] = i + k;
+                rowsByAs.put(asId[i], idx);
+                i = j;
+            }
+        }
+
+        private void ensureCapacity(int need) {
+            if (need <= asId.length) return;
+            int cap = Math.max(need, asId.length + (asId.length >> 1));
+            asId = Arrays.copyOf(asId, cap);
+            farm = Arrays.copyOf(farm, cap);
+            table = Arrays.copyOf(table, cap);
+            type = Arrays.copyOf(type, cap);
+            cat4 = Arrays.copyOf(cat4, cap);
+            cat = Arrays.copyOf(cat, cap);
+            day = Arrays.copyOf(day, cap);
+            month = Arrays.copyOf(month, cap);
+            flags = Arrays.copyOf(flags, cap);
+        }
+    }
+}
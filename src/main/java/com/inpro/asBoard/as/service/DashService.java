@@ -2,31 +2,50 @@ package com.inpro.asBoard.as.service;
 
 import com.inpro.asBoard.as.dto.*;
 import com.inpro.asBoard.as.mapper.DashMapper;
+import com.inpro.asBoard.as.service.DashFactCube.Dim;
+import com.inpro.asBoard.as.service.DashFactCube.Group;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
 public class DashService {
 
     private final DashMapper dashMapper;
+    private final Clock clock;   // 기간 경계 기준 시각 (테스트에서 고정 시계로 교체)
+    private final DashFactCube cube;   // 메모리 열 저장소 (준비 전에는 SQL 집계)
+    private final SidoResolver sidoResolver;   // 농장 → 시도 (농장당 1회 정규화)
+
+    private static final Comparator<DashAggregateItemDto> BY_COUNT_LABEL =
+            Comparator.comparingInt(DashAggregateItemDto::getCount).reversed()
+                    .thenComparing(DashAggregateItemDto::getLabel, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     //========================================================================
     // 1. 월별 통계
     // Param :
-    // 설명  : 최근 월 단위 통계 목록 조회
+    // 설명  : 최근 월 단위 통계 목록 조회 (월 오름차순)
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 집계 (큐브 준비 전에는 일별 롤업 SQL)
     //========================================================================
     public List<DashMonthlyStatDto> getMonthlyStats() {
-        return dashMapper.selectMonthlyStats();
+        if (!cube.isReady()) return dashMapper.selectMonthlyStats();
+        List<DashMonthlyStatDto> out = new ArrayList<>();
+        for (Group g : cube.count(Dim.MONTH, DashFactCube.ALL_FROM, DashFactCube.ALL_TO, null, null)) {
+            DashMonthlyStatDto d = new DashMonthlyStatDto();
+            d.setMonth(g.key());
+            d.setCount(g.count());
+            out.add(d);
+        }
+        return out;
     }
 
     //========================================================================
@@ -43,15 +62,34 @@ public class DashService {
     // 1. 핵심 요약 지표
     // Param :
     // 설명  : [전체/이번달/이번주/오늘] 4구간에 대한 상태별 카운트 집계
-    //        내부적으로 buildPeriodParam → selectStatusCountByPeriod
+    //        큐브 준비 시 4분류 축을 구간별로 집계, 아니면
+    //        buildPeriodParam 경계로 selectSummaryCounts 한 번(헤더 1회 스캔) 조회 후 구간별로 펼침
+    //        구간별 순서/0건 생략은 기존 기간별 조회와 동일 (건수 desc, 라벨 asc)
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 4구간 한 번 스캔
+    //       agent(26.10.17) 큐브 준비 시 4분류 축을 구간별로 집계 (준비 전 selectSummaryCounts)
     //========================================================================
     public List<DashSummaryDto> getSummary() {
+        if (cube.isReady()) {
+            List<DashSummaryDto> out = new ArrayList<>();
+            out.addAll(cubeSummary("전체",   "all"));
+            out.addAll(cubeSummary("이번달", "1m"));
+            out.addAll(cubeSummary("이번주", "1w"));
+            out.addAll(cubeSummary("오늘",   "1d"));
+            return out;
+        }
+        Map<String, Object> param = new HashMap<>();
+        putRange(param, "month", buildPeriodParam("1m"));
+        putRange(param, "week",  buildPeriodParam("1w"));
+        putRange(param, "day",   buildPeriodParam("1d"));
+        List<DashSummaryScanRow> rows = dashMapper.selectSummaryCounts(param);
+        if (rows == null) rows = List.of();
+
         List<DashSummaryDto> out = new ArrayList<>();
-        out.addAll(collectSummary("전체", new HashMap<>()));
-        out.addAll(collectSummary("이번달", buildPeriodParam("1m")));
-        out.addAll(collectSummary("이번주", buildPeriodParam("1w")));
-        out.addAll(collectSummary("오늘",   buildPeriodParam("1d")));
+        out.addAll(collectSummary("전체",   rows, DashSummaryScanRow::allCnt));
+        out.addAll(collectSummary("이번달", rows, DashSummaryScanRow::monthCnt));
+        out.addAll(collectSummary("이번주", rows, DashSummaryScanRow::weekCnt));
+        out.addAll(collectSummary("오늘",   rows, DashSummaryScanRow::todayCnt));
         return out;
     }
 
@@ -62,9 +100,22 @@ public class DashService {
     //         topN      (required, int)
     // 설명  : dimension 기준 TopN 집계 결과 반환
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 농가/장비/카테고리 TopN 을 사실 큐브로 집계 (준비 전 selectAggregate)
     //========================================================================
     public List<DashAggregateItemDto> aggregate(String dimension, String period, int topN) {
-        return dashMapper.selectAggregate(dimension, period, topN);
+        if (!cube.isReady()) return dashMapper.selectAggregate(dimension, period, topN);
+        int[] r = dayRange(period);
+        List<DashAggregateItemDto> out = switch (dimension == null ? "" : dimension) {
+            case "farm"      -> items(knownFarms(cube.count(Dim.FARM, r[0], r[1], null, null)), this::farmItem);
+            case "equipment" -> items(cube.count(Dim.TABLE,    r[0], r[1], null, null), DashService::tableItem);
+            case "category"  -> items(cube.count(Dim.CATEGORY, r[0], r[1], null, null), DashService::labelItem);
+            default -> {
+                DashAggregateItemDto invalid = new DashAggregateItemDto();
+                invalid.setLabel("Invalid dimension");
+                yield List.of(invalid);
+            }
+        };
+        return out.size() > topN ? out.subList(0, Math.max(topN, 0)) : out;
     }
 
     //========================================================================
@@ -72,9 +123,11 @@ public class DashService {
     // Param :
     // 설명  : 코드/이름 페어 목록
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브에 있는 농가 목록 (준비 전 selectFarmList)
     //========================================================================
     public List<DashCodeNameDto> getFarmList() {
-        return dashMapper.selectFarmList();
+        if (!cube.isReady()) return dashMapper.selectFarmList();
+        return farmCodes(null);
     }
 
     //========================================================================
@@ -82,9 +135,11 @@ public class DashService {
     // Param :
     // 설명  : 장비 테이블/명 페어 목록
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브에 있는 장비 테이블 목록 (준비 전 selectEquipmentList)
     //========================================================================
     public List<DashCodeNameDto> getEquipmentList() {
-        return dashMapper.selectEquipmentList();
+        if (!cube.isReady()) return dashMapper.selectEquipmentList();
+        return tableCodes(null);
     }
 
     //========================================================================
@@ -92,10 +147,12 @@ public class DashService {
     // Param : farmCode (required, string)
     // 설명  : 특정 농가에 실제 존재하는 장비 목록
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브에서 농가의 장비 테이블 목록 (준비 전 selectEquipmentListByFarm)
     //========================================================================
     public List<DashCodeNameDto> getEquipmentListByFarm(String farmCode) {
         if (farmCode == null || farmCode.isBlank()) return List.of();
-        return dashMapper.selectEquipmentListByFarm(farmCode);
+        if (!cube.isReady()) return dashMapper.selectEquipmentListByFarm(farmCode);
+        return tableCodes(farmCode);
     }
 
     //========================================================================
@@ -104,10 +161,12 @@ public class DashService {
     // 설명  : 특정 장비를 보유한 농가 목록
     // 주의  : tableName 화이트리스트 검증은 Controller/Service 한 곳에서 수행 권장
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브에서 장비 보유 농가 목록 (준비 전 selectFarmListByEquipment)
     //========================================================================
     public List<DashCodeNameDto> getFarmListByEquipment(String tableName) {
         if (tableName == null || tableName.isBlank()) return List.of();
-        return dashMapper.selectFarmListByEquipment(tableName);
+        if (!cube.isReady()) return dashMapper.selectFarmListByEquipment(tableName);
+        return farmCodes(tableName);
     }
 
     //========================================================================
@@ -115,9 +174,12 @@ public class DashService {
     // Param : period (required, string), farmCode (required, string)
     // 설명  : 특정 농가에서 장비별 집계
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 장비 축 집계, 농가 필터 (준비 전 selectEquipmentByFarm)
     //========================================================================
     public List<DashAggregateItemDto> getEquipmentByFarm(String period, String farmCode) {
-        return dashMapper.selectEquipmentByFarm(period, farmCode);
+        if (!cube.isReady()) return dashMapper.selectEquipmentByFarm(period, farmCode);
+        int[] r = dayRange(period);
+        return items(cube.count(Dim.TABLE, r[0], r[1], farmCode, null), DashService::tableItem);
     }
 
     //========================================================================
@@ -125,9 +187,12 @@ public class DashService {
     // Param : period (required, string), farmCode (required, string)
     // 설명  : 특정 농가에서 카테고리별 집계
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 AS 유형 축 집계, 농가 필터 (준비 전 selectCategoryByFarm)
     //========================================================================
     public List<DashAggregateItemDto> getCategoryByFarm(String period, String farmCode) {
-        return dashMapper.selectCategoryByFarm(period, farmCode);
+        if (!cube.isReady()) return dashMapper.selectCategoryByFarm(period, farmCode);
+        int[] r = dayRange(period);
+        return items(cube.count(Dim.TYPE, r[0], r[1], farmCode, null), DashService::labelItem);
     }
 
     //========================================================================
@@ -135,9 +200,12 @@ public class DashService {
     // Param : period (required, string), tableName (required, string)
     // 설명  : 특정 장비를 보유한 농가별 집계
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 농가 축 집계, 장비 필터 (준비 전 selectFarmByEquipment)
     //========================================================================
     public List<DashAggregateItemDto> getFarmByEquipment(String period, String tableName) {
-        return dashMapper.selectFarmByEquipment(period, tableName);
+        if (!cube.isReady()) return dashMapper.selectFarmByEquipment(period, tableName);
+        int[] r = dayRange(period);
+        return items(knownFarms(cube.count(Dim.FARM, r[0], r[1], null, tableName)), this::farmItem);
     }
 
     //========================================================================
@@ -145,9 +213,12 @@ public class DashService {
     // Param : period (required, string), tableName (required, string)
     // 설명  : 특정 장비에서 카테고리별 집계
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 AS 유형 축 집계, 장비 필터 (준비 전 selectCategoryByEquipment)
     //========================================================================
     public List<DashAggregateItemDto> getCategoryByEquipment(String period, String tableName) {
-        return dashMapper.selectCategoryByEquipment(period, tableName);
+        if (!cube.isReady()) return dashMapper.selectCategoryByEquipment(period, tableName);
+        int[] r = dayRange(period);
+        return items(cube.count(Dim.TYPE, r[0], r[1], null, tableName), DashService::labelItem);
     }
 
     //========================================================================
@@ -155,9 +226,12 @@ public class DashService {
     // Param : period (required, string), farmCode (optional, string), tableName (optional, string)
     // 설명  : 농가/장비 동시 필터링된 카테고리 집계
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 AS 유형 축 집계, 농가+장비 필터 (준비 전 selectCategoryByFarmAndEquipment)
     //========================================================================
     public List<DashAggregateItemDto> getCategoryByFarmAndEquipment(String period, String farmCode, String tableName) {
-        return dashMapper.selectCategoryByFarmAndEquipment(period, farmCode, tableName);
+        if (!cube.isReady()) return dashMapper.selectCategoryByFarmAndEquipment(period, farmCode, tableName);
+        int[] r = dayRange(period);
+        return items(cube.count(Dim.TYPE, r[0], r[1], farmCode, tableName), DashService::labelItem);
     }
 
     //========================================================================
@@ -168,9 +242,99 @@ public class DashService {
     //         tableName(optional, string)
     // 설명  : 기간/bucket 기준의 시계열 포인트 조회(필터 적용)
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 사실 큐브 집계 (큐브 준비 전에는 일별 롤업 SQL)
     //========================================================================
     public List<DashTimeSeriesPointDto> getTimeSeries(String period, String bucket, String farmCode, String tableName) {
-        return dashMapper.selectTimeSeries(period, bucket, farmCode, tableName);
+        if (!cube.isReady()) return dashMapper.selectTimeSeries(period, bucket, farmCode, tableName);
+        boolean byDay = "day".equals(bucket);
+        int[] r = dayRange(period);
+        List<DashTimeSeriesPointDto> out = new ArrayList<>();
+        for (Group g : cube.count(byDay ? Dim.DAY : Dim.MONTH, r[0], r[1], farmCode, tableName)) {
+            DashTimeSeriesPointDto d = new DashTimeSeriesPointDto();
+            d.setBucket(g.key());
+            d.setCount(g.count());
+            d.setFirstAsId(g.count() == 1 ? g.minAsId() : null);
+            if (byDay) {
+                d.setFromDate(g.key() + "T00:00");
+                d.setToDate(g.key() + "T23:59");
+            } else {
+                d.setFromDate(g.key() + "-01T00:00");
+                d.setToDate(YearMonth.parse(g.key()).atEndOfMonth() + "T23:59");
+            }
+            out.add(d);
+        }
+        return out;
+    }
+
+    //========================================================================
+    // 1. 지역(시도)별 AS 건수
+    // Param : from, to (optional, 접수일 기준 포함 범위), status (optional, 상태 라벨)
+    // 설명  : [{sido, sidoCode, as_cnt}] 건수 desc, 같으면 시도명 순
+    //        농장별 건수 → SidoResolver(농장당 1회 정규화)로 시도별 합산 (행마다 지역명 파싱 없음)
+    //        사용 농장이 아니거나 지역을 알 수 없는 농장은 제외
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public List<Map<String, Object>> getSidoCounts(LocalDate from, LocalDate to, String status) {
+        Map<String, Integer> bySido = new HashMap<>();
+        for (DashAggregateItemDto f : farmCounts(from, to, status)) {
+            String sido = sidoResolver.sidoOf(f.getFarmCode());
+            if (sido != null) bySido.merge(sido, f.getCount(), Integer::sum);
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(bySido.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Map<String, Object>> out = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Integer> e : entries) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("sido", e.getKey());
+            m.put("sidoCode", SidoResolver.codeOf(e.getKey()));
+            m.put("as_cnt", e.getValue());
+            out.add(m);
+        }
+        return out;
+    }
+
+    //========================================================================
+    // 1. 시도별 농장 건수 (드릴다운)
+    // Param : sido (required, 약칭 또는 KR-xx), from, to, status (getSidoCounts 와 같음)
+    // 설명  : 해당 시도 소속 농장별 AS 건수 (건수 desc, 농장명 asc), 0 건 농장은 제외
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public List<DashAggregateItemDto> getSidoFarms(String sido, LocalDate from, LocalDate to, String status) {
+        Set<String> farms = new HashSet<>(sidoResolver.farmsOf(sido));
+        if (farms.isEmpty()) return List.of();
+        List<DashAggregateItemDto> out = new ArrayList<>();
+        for (DashAggregateItemDto f : farmCounts(from, to, status)) {
+            if (f.getFarmCode() == null || !farms.contains(f.getFarmCode().trim())) continue;
+            String name = sidoResolver.farmName(f.getFarmCode());
+            f.setFarmName(name);
+            f.setLabel(name == null ? f.getFarmCode() : name);
+            out.add(f);
+        }
+        out.sort(BY_COUNT_LABEL);
+        return out;
+    }
+
+    // 농장별 AS 건수 : 상태 필터가 없고 큐브가 준비되면 큐브, 아니면 selectAsCountsByFarm
+    private List<DashAggregateItemDto> farmCounts(LocalDate from, LocalDate to, String status) {
+        boolean anyStatus = status == null || status.isBlank();
+        if (anyStatus && cube.isReady()) {
+            int fromDay = from == null ? DashFactCube.ALL_FROM : (int) from.toEpochDay();
+            int toDay   = to == null ? DashFactCube.ALL_TO : (int) to.toEpochDay() + 1;
+            List<DashAggregateItemDto> out = new ArrayList<>();
+            for (Group g : cube.count(Dim.FARM, fromDay, toDay, null, null)) {
+                DashAggregateItemDto d = new DashAggregateItemDto();
+                d.setFarmCode(g.key());
+                d.setCount(g.count());
+                d.setFirstAsId(g.count() == 1 ? g.minAsId() : null);
+                out.add(d);
+            }
+            return out;
+        }
+        Map<String, Object> p = new HashMap<>();
+        if (from != null) p.put("fromDate", from.atStartOfDay());
+        if (to != null)   p.put("toDate", to.plusDays(1).atStartOfDay());
+        if (!anyStatus)   p.put("status", status.trim());
+        return dashMapper.selectAsCountsByFarm(p);
     }
 
     //========================================================================
@@ -179,10 +343,11 @@ public class DashService {
     // Return: Map<String,Object> { fromDate(LocalDate), toDate(LocalDate) } // all은 빈 맵
     // 설명  : 오늘/이번주(월~일)/이번달(1일~말일) 경계를 산출하여 Mapper에 전달할 파라미터 구성
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 오늘 기준을 주입 Clock 으로 산출 (구간 경계 테스트)
     //========================================================================
     private Map<String, Object> buildPeriodParam(String code) {
         Map<String, Object> p = new HashMap<>();
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
 
         switch (code) {
             case "1d" -> {
@@ -206,26 +371,138 @@ public class DashService {
         return p;
     }
 
+    // 기간 코드 → REG_DATE epochDay [from, to) (__period_filter_regdate 와 같은 경계, 그 외 전체)
+    private int[] dayRange(String period) {
+        String code = "today".equals(period) ? "1d" : period;
+        if (!"1d".equals(code) && !"1w".equals(code) && !"1m".equals(code)) {
+            return new int[]{DashFactCube.ALL_FROM, DashFactCube.ALL_TO};
+        }
+        Map<String, Object> p = buildPeriodParam(code);
+        return new int[]{(int) ((LocalDate) p.get("fromDate")).toEpochDay(),
+                         (int) ((LocalDate) p.get("toDate")).toEpochDay() + 1};
+    }
+
+    private List<DashSummaryDto> cubeSummary(String periodLabel, String period) {
+        int[] r = dayRange(period);
+        List<DashSummaryDto> out = new ArrayList<>();
+        for (Group g : cube.count(Dim.CATEGORY4, r[0], r[1], null, null)) {
+            DashSummaryDto dto = new DashSummaryDto();
+            dto.setPeriod(periodLabel);
+            dto.setStatusLabel(g.key());
+            dto.setCount(g.count());
+            out.add(dto);
+        }
+        out.sort(Comparator.comparingInt(DashSummaryDto::getCount).reversed()
+                .thenComparing(DashSummaryDto::getStatusLabel));
+        return out;
+    }
+
+    // 큐브 그룹 → 집계 DTO (건수 desc, 라벨 asc), 1건이면 대표 AS_ID
+    private static List<DashAggregateItemDto> items(List<Group> groups, Function<Group, DashAggregateItemDto> map) {
+        List<DashAggregateItemDto> out = new ArrayList<>(groups.size());
+        for (Group g : groups) {
+            DashAggregateItemDto d = map.apply(g);
+            d.setCount(g.count());
+            d.setFirstAsId(g.count() == 1 ? g.minAsId() : null);
+            out.add(d);
+        }
+        out.sort(BY_COUNT_LABEL);
+        return out;
+    }
+
+    // 농장 마스터에 없는 코드는 SQL(LEFT JOIN 후 F.FARM_CODE 그룹)처럼 null 한 그룹으로 합침
+    private List<Group> knownFarms(List<Group> groups) {
+        List<Group> out = new ArrayList<>(groups.size());
+        int unknownCnt = 0;
+        long unknownMin = Long.MAX_VALUE;
+        for (Group g : groups) {
+            if (cube.farmName(g.key()) != null) { out.add(g); continue; }
+            unknownCnt += g.count();
+            unknownMin = Math.min(unknownMin, g.minAsId());
+        }
+        if (unknownCnt > 0) out.add(new Group(null, unknownCnt, unknownMin));
+        return out;
+    }
+
+    private DashAggregateItemDto farmItem(Group g) {
+        String name = g.key() == null ? null : cube.farmName(g.key());
+        DashAggregateItemDto d = new DashAggregateItemDto();
+        d.setFarmCode(g.key());
+        d.setFarmName(name == null ? "(미지정)" : name);
+        d.setLabel(d.getFarmName());
+        return d;
+    }
+
+    private static DashAggregateItemDto tableItem(Group g) {
+        DashAggregateItemDto d = new DashAggregateItemDto();
+        d.setLabel(g.key());
+        d.setTableName(g.key());
+        return d;
+    }
+
+    private static DashAggregateItemDto labelItem(Group g) {
+        DashAggregateItemDto d = new DashAggregateItemDto();
+        d.setLabel(g.key());
+        return d;
+    }
+
+    // 농가 코드/이름 목록 (tableName 이 있으면 그 장비를 가진 농가만), 이름 순
+    private List<DashCodeNameDto> farmCodes(String tableName) {
+        List<DashCodeNameDto> out = new ArrayList<>();
+        for (Group g : cube.count(Dim.FARM, DashFactCube.ALL_FROM, DashFactCube.ALL_TO, null, tableName)) {
+            String name = cube.farmName(g.key());
+            DashCodeNameDto d = new DashCodeNameDto();
+            d.setCode(g.key());
+            d.setName(name == null ? "(미지정)" : name);
+            out.add(d);
+        }
+        out.sort(Comparator.comparing(DashCodeNameDto::getName));
+        return out;
+    }
+
+    // 장비 테이블 목록 (farmCode 가 있으면 그 농가에 있는 장비만), 이름 순
+    private List<DashCodeNameDto> tableCodes(String farmCode) {
+        List<DashCodeNameDto> out = new ArrayList<>();
+        for (Group g : cube.count(Dim.TABLE, DashFactCube.ALL_FROM, DashFactCube.ALL_TO, farmCode, null)) {
+            DashCodeNameDto d = new DashCodeNameDto();
+            d.setCode(g.key());
+            d.setName(g.key());
+            out.add(d);
+        }
+        out.sort(Comparator.comparing(DashCodeNameDto::getName));
+        return out;
+    }
+
+    // 포함 구간 [fromDate, toDate] → REG_DATE 범위 [prefix+From, prefix+To)
+    private static void putRange(Map<String, Object> target, String prefix, Map<String, Object> period) {
+        target.put(prefix + "From", ((LocalDate) period.get("fromDate")).atStartOfDay());
+        target.put(prefix + "To",   ((LocalDate) period.get("toDate")).plusDays(1).atStartOfDay());
+    }
+
     //========================================================================
     // 1. 요약 행 수집기
     // Param : periodLabel (required, string),
-    //         param       (required, map: fromDate/toDate 또는 빈 맵)
+    //         rows        (required, selectSummaryCounts 결과)
+    //         count       (required, 구간 컬럼 선택)
     // Return: List<DashSummaryDto>
-    // 설명  : 기간 조건으로 상태 카운트를 조회하여 DTO로 변환
+    // 설명  : 한 구간의 라벨별 건수를 DTO로 변환 (0건 제외, 건수 desc → 라벨 asc)
     // 작성  : wjlee(25.09.01)
+    // 수정  : agent(26.10.17) 구간별 조회 결과 대신 한 번 스캔한 행에서 구간 컬럼 선택
     //========================================================================
-    private List<DashSummaryDto> collectSummary(String periodLabel, Map<String, Object> param) {
-        List<DashSummaryRow> rows = dashMapper.selectStatusCountByPeriod(param);
+    private List<DashSummaryDto> collectSummary(String periodLabel, List<DashSummaryScanRow> rows,
+                                                ToIntFunction<DashSummaryScanRow> count) {
         List<DashSummaryDto> out = new ArrayList<>();
-        if (rows == null) return out;
-
-        for (DashSummaryRow r : rows) {
+        for (DashSummaryScanRow r : rows) {
+            int cnt = count.applyAsInt(r);
+            if (cnt == 0) continue;
             DashSummaryDto dto = new DashSummaryDto();
             dto.setPeriod(periodLabel);
             dto.setStatusLabel(r.statusLabel()); // 실제로는 카테고리 4분류
-            dto.setCount(r.cnt());
+            dto.setCount(cnt);
             out.add(dto);
         }
+        out.sort(Comparator.comparingInt(DashSummaryDto::getCount).reversed()
+                .thenComparing(DashSummaryDto::getStatusLabel));
         return out;
     }
-}
\ No newline at end of file
+}
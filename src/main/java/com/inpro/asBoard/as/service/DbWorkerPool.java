@@ -0,0 +1,71 @@
+package com.inpro.asBoard.as.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class DbWorkerPool {
+
+    private static final int REQUEST_RESERVE = 4;   // 요청 스레드(및 CallerRuns 실행) 몫으로 남길 커넥션
+    private static final int EXPORT_WORKERS  = 1;   // 엑셀 작업 (수 분 단위로 커넥션 점유)
+    private static final int EXPORT_QUEUE    = 20;  // 넘으면 거절(503)
+
+    private final ThreadPoolExecutor shortTasks;
+    private final ThreadPoolExecutor exportJobs;
+
+    //========================================================================
+    // 1. DB 작업 스레드 풀 (공유 예산)
+    // 2. URL : (Component) DashBundleService 위젯 병렬 / EquipCatalogService 테이블 병렬 / AsExportJobService 작업
+    // 3. Param : maxPoolSize (spring.datasource.hikari.maximum-pool-size, 기본 10)
+    // 4. 설명 : 백그라운드 스레드 합계 = 커넥션 풀 - 요청 스레드 몫(4) → 풀 10 이면 6 (엑셀 1 + 단건 병렬 5)
+    //          풀마다 따로 잡으면 합계(위젯 4 + 카탈로그 8 + 엑셀 2)가 풀 10 을 넘어 요청이 커넥션 대기에 걸림
+    //          단건 병렬은 대기열이 차면 호출 스레드에서 실행, 엑셀은 대기열이 차면 거절
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public DbWorkerPool(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize) {
+        int budget = Math.max(maxPoolSize - REQUEST_RESERVE, EXPORT_WORKERS + 1);
+        int shortThreads = budget - EXPORT_WORKERS;
+        this.shortTasks = newPool("db-worker-", shortThreads, new ArrayBlockingQueue<>(128),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.exportJobs = newPool("as-export-", EXPORT_WORKERS, new ArrayBlockingQueue<>(EXPORT_QUEUE),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("DB worker pool: connections={}, shortTasks={}, exportJobs={}", maxPoolSize, shortThreads, EXPORT_WORKERS);
+    }
+
+    // 짧은 병렬 조회 (위젯/장비 테이블) : 가득 차면 호출 스레드에서 실행
+    public ExecutorService shortTasks() {
+        return shortTasks;
+    }
+
+    // 엑셀 작업 : 가득 차면 RejectedExecutionException
+    public ExecutorService exportJobs() {
+        return exportJobs;
+    }
+
+    private static ThreadPoolExecutor newPool(String prefix, int threads, BlockingQueue<Runnable> queue,
+                                              RejectedExecutionHandler rejected) {
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, queue,
+                new ThreadFactory() {
+                    private final AtomicInteger seq = new AtomicInteger();
+                    @Override public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, prefix + seq.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    }
+                },
+                rejected);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shortTasks.shutdownNow();
+        exportJobs.shutdownNow();
+    }
+}
@@ -0,0 +1,68 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.EquipSourceDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@Service
+@RequiredArgsConstructor
+public class EquipCatalogService {
+
+    private static final long TTL_MILLIS  = 5 * 60_000L;  // 장비 마스터는 자주 바뀌지 않음
+    private static final int  MAX_ENTRIES = 200;
+
+    private record Entry(Map<String, List<Map<String, Object>>> catalog, long expiresAt) {}
+
+    private final AsMapper asMapper;
+    private final EquipPresenceIndex equipPresenceIndex;
+    private final EquipSourceRegistry equipSourceRegistry;
+    private final DbWorkerPool dbWorkerPool;   // 위젯 묶음/엑셀과 같은 커넥션 예산 (가득 차면 호출 스레드에서 실행)
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    //========================================================================
+    // 1. 농가 장비 카탈로그 조회
+    // Param : farmCode (required)
+    // 설명  : 보유 장비 테이블(EquipPresenceIndex)별 selectEquipmentListByTable 을 병렬 실행 후
+    //        테이블명 → 장비 목록 으로 묶어 반환 (테이블 이름순). 농가 단위 TTL 캐시
+    //        → 소요 시간 = 가장 느린 테이블 1개
+    // 작성  : agent(26.10.17)
+    //========================================================================
+    public Map<String, List<Map<String, Object>>> catalogOf(String farmCode) {
+        long now = System.currentTimeMillis();
+        Entry e = cache.get(farmCode);
+        if (e != null && e.expiresAt() >= now) return e.catalog();
+
+        List<String> tables = equipPresenceIndex.tablesOf(farmCode);
+        Map<String, CompletableFuture<List<Map<String, Object>>>> futures = new LinkedHashMap<>();
+        for (String table : tables) {
+            EquipSourceDto src = equipSourceRegistry.get(table);
+            if (src == null) continue;
+            futures.put(table, CompletableFuture.supplyAsync(
+                    () -> asMapper.selectEquipmentListByTable(src, farmCode), dbWorkerPool.shortTasks()));
+        }
+
+        Map<String, List<Map<String, Object>>> catalog = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<List<Map<String, Object>>>> f : futures.entrySet()) {
+                catalog.put(f.getKey(), f.getValue().join());
+            }
+        } catch (CompletionException ex) {
+            futures.values().forEach(f -> f.cancel(false));
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw ex;
+        }
+
+        catalog = Collections.unmodifiableMap(catalog);
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(x -> x.expiresAt() < now);
+            if (cache.size() >= MAX_ENTRIES) cache.clear();
+        }
+        cache.put(farmCode, new Entry(catalog, now + TTL_MILLIS));
+        return catalog;
+    }
+}
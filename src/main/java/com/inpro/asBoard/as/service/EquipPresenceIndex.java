@@ -0,0 +1,142 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.EquipSourceDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipPresenceIndex {
+
+    private final AsMapper asMapper;
+    private final EquipSourceRegistry equipSourceRegistry;
+    private final AsDataVersion asDataVersion;   // 장비 테이블 변경도 대시보드 농가/장비 목록을 바꿈
+
+    // 비트 위치 = sources/tableNames 순서 (selectCategoryList 의 ORDER BY 와 같은 이름순)
+    // farmBits : 농가코드 → 보유 장비 테이블 비트셋, versions : 테이블별 건수/최종 사용일시
+    // 변경 시 새 스냅샷으로 통째 교체 (공개 후 맵/비트셋/배열은 수정하지 않음)
+    private record Snapshot(List<EquipSourceDto> sources, List<String> tableNames,
+                            Map<String, BitSet> farmBits, String[] versions) {}
+
+    // 적재 전 null → tablesOf 는 EXISTS 쿼리 사용
+    private volatile Snapshot snapshot = null;
+
+    //========================================================================
+    // 1. 전체 적재
+    // 2. URL : (Component) 기동 시(AsWarmup)
+    // 3. Param :
+    // 4. 설명 : 장비 테이블별 1회 DISTINCT FARM_CODE 조회로 농가별 비트셋 구성
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //         agent(26.10.17) 소스/테이블명/비트/버전을 한 스냅샷으로 교체
+    //========================================================================
+    public synchronized void loadAll() {
+        List<EquipSourceDto> srcs = equipSourceRegistry.all();
+        String[] vers = new String[srcs.size()];
+        Map<String, BitSet> bits = new HashMap<>();
+        for (int i = 0; i < srcs.size(); i++) {
+            EquipSourceDto src = srcs.get(i);
+            vers[i] = versionOf(src);
+            for (String code : asMapper.selectFarmCodesByEquipTable(src)) {
+                if (code == null) continue;
+                bits.computeIfAbsent(code.trim(), k -> new BitSet(srcs.size())).set(i);
+            }
+        }
+        snapshot = new Snapshot(List.copyOf(srcs), srcs.stream().map(EquipSourceDto::getTableName).toList(),
+                bits, vers);
+        log.info("Equip presence index loaded: farms={}", bits.size());
+    }
+
+    //========================================================================
+    // 1. 변경 테이블만 갱신
+    // 2. URL : (Component) 1분 주기
+    // 3. Param :
+    // 4. 설명 : 테이블별 건수 + 최종 사용일시가 바뀐 테이블만 농가 코드를 다시 읽어 해당 비트 교체
+    //          장비 테이블 메타(EquipSourceRegistry)가 바뀌면 비트 위치가 달라지므로 전체 재적재
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 장비 테이블 메타 재적재
+    //         agent(26.10.17) 바뀐 테이블을 모두 반영한 뒤 스냅샷 1회 교체
+    //========================================================================
+    @Scheduled(fixedDelay = 60_000L, initialDelay = 60_000L)
+    public synchronized void refreshChanged() {
+        boolean sourcesChanged = equipSourceRegistry.load();
+        Snapshot snap = snapshot;
+        if (snap == null || sourcesChanged) {
+            loadAll();
+            if (sourcesChanged) asDataVersion.bumpAfterCommit();
+            return;
+        }
+        List<EquipSourceDto> sources = snap.sources();
+        Map<String, BitSet> farmBits = snap.farmBits();
+        String[] versions = snap.versions().clone();
+        boolean changed = false;
+        for (int i = 0; i < sources.size(); i++) {
+            EquipSourceDto src = sources.get(i);
+            String ver = versionOf(src);
+            if (Objects.equals(ver, versions[i])) continue;
+
+            Set<String> codes = new HashSet<>();
+            for (String code : asMapper.selectFarmCodesByEquipTable(src)) {
+                if (code != null) codes.add(code.trim());
+            }
+
+            Map<String, BitSet> next = new HashMap<>(farmBits.size() + codes.size());
+            final int bit = i;
+            farmBits.forEach((code, b) -> {
+                if (b.get(bit) == codes.contains(code)) { next.put(code, b); return; }
+                BitSet copy = (BitSet) b.clone();
+                copy.set(bit, codes.contains(code));
+                if (!copy.isEmpty()) next.put(code, copy);
+            });
+            for (String code : codes) {
+                next.computeIfAbsent(code, k -> {
+                    BitSet b = new BitSet(sources.size());
+                    b.set(bit);
+                    return b;
+                });
+            }
+            farmBits = next;
+            versions[i] = ver;
+            changed = true;
+            log.info("Equip presence index refreshed: {} (farms={})", src.getTableName(), codes.size());
+        }
+        if (!changed) return;
+        snapshot = new Snapshot(sources, snap.tableNames(), farmBits, versions);
+        asDataVersion.bumpAfterCommit();
+    }
+
+    //========================================================================
+    // 1. 농가 보유 장비 테이블
+    // 2. URL : (Component) /api/as/categoryList
+    // 3. Param : farmCode (required)
+    // 4. 설명 : 비트 조회로 테이블명 목록 반환 (이름순). 적재 전이면 기존 EXISTS 쿼리 사용
+    //          스냅샷을 한 번만 읽어 비트와 테이블명 목록이 항상 같은 적재분
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 비트/테이블명을 한 스냅샷에서 조회
+    //========================================================================
+    public List<String> tablesOf(String farmCode) {
+        Snapshot snap = snapshot;
+        if (snap == null) {
+            List<EquipSourceDto> srcs = equipSourceRegistry.all();
+            return srcs.isEmpty() ? List.of() : asMapper.selectCategoryList(farmCode, srcs);
+        }
+
+        BitSet b = snap.farmBits().get(farmCode.trim());
+        if (b == null) return List.of();
+        List<String> names = snap.tableNames();
+        List<String> out = new ArrayList<>(b.cardinality());
+        for (int i = b.nextSetBit(0); i >= 0; i = b.nextSetBit(i + 1)) out.add(names.get(i));
+        return out;
+    }
+
+    private String versionOf(EquipSourceDto src) {
+        Map<String, Object> v = asMapper.selectEquipTableVersion(src);
+        return v == null ? null : new TreeMap<>(v).toString();
+    }
+}
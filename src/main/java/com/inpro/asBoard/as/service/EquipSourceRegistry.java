@@ -0,0 +1,90 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.EquipSourceDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipSourceRegistry {
+
+    // ${} 로 SQL 에 들어가는 값이므로 대문자 식별자만 허용
+    private static final Pattern IDENT = Pattern.compile("[A-Z][A-Z0-9_]{0,63}");
+
+    private record Snapshot(List<EquipSourceDto> sources, Map<String, EquipSourceDto> byTable) {}
+
+    private final AsMapper asMapper;
+
+    private volatile Snapshot snapshot = null;
+
+    //========================================================================
+    // 1. 장비 테이블 메타 적재
+    // 2. URL : (Component) 최초 사용 시 / 장비 보유 색인 1분 주기 갱신 시
+    // 3. Param :
+    // 4. 설명 : SF_TBL_AS_EQUIP_SOURCE 를 읽어 테이블명 → 컬럼 매핑 구성 (테이블명 순)
+    //          식별자 형식이 아닌 행은 제외 (동적 SQL 화이트리스트 역할)
+    //          반환 : 이전 적재분과 목록이 달라졌으면 true (최초 적재 포함)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 주기 재적재 + 변경 여부 반환
+    //========================================================================
+    public synchronized boolean load() {
+        List<EquipSourceDto> sources = new ArrayList<>();
+        Map<String, EquipSourceDto> byTable = new HashMap<>();
+        for (EquipSourceDto s : asMapper.selectEquipSources()) {
+            if (!isIdent(s.getTableName()) || !isIdent(s.getSubCol()) || !isIdent(s.getNameCol())
+                    || (s.getDateCol() != null && !isIdent(s.getDateCol()))) {
+                log.warn("Equip source skipped (invalid identifier): {}", s);
+                continue;
+            }
+            if (byTable.putIfAbsent(s.getTableName(), s) == null) sources.add(s);
+        }
+        Snapshot prev = snapshot;
+        if (prev != null && prev.sources().equals(sources)) return false;
+        snapshot = new Snapshot(List.copyOf(sources), Map.copyOf(byTable));
+        log.info("Equip source registry loaded: {}", sources.size());
+        return true;
+    }
+
+    //========================================================================
+    // 1. 전체 장비 테이블
+    // 2. URL : (Component) 장비 보유 색인 / 카테고리 조회
+    // 3. Param :
+    // 4. 설명 : 테이블명 순 목록 (목록 순서 = 장비 보유 색인 비트 위치)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<EquipSourceDto> all() {
+        return loaded().sources();
+    }
+
+    //========================================================================
+    // 1. 장비 테이블 조회
+    // 2. URL : (Component) /api/as/equipmentList, /api/as/equipmentCatalog
+    // 3. Param : tableName (optional)
+    // 4. 설명 : 등록된 테이블이면 메타 반환, 아니면 null (허용 여부 검사 겸용)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public EquipSourceDto get(String tableName) {
+        return tableName == null ? null : loaded().byTable().get(tableName);
+    }
+
+    private Snapshot loaded() {
+        Snapshot snap = snapshot;
+        if (snap == null) {
+            load();
+            snap = snapshot;
+        }
+        return snap;
+    }
+
+    private static boolean isIdent(String s) {
+        return s != null && IDENT.matcher(s).matches();
+    }
+}
@@ -0,0 +1,201 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.AsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FarmDirectory {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ','ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'
+    };
+
+    private record Farm(String code, String name, String codeLower, String nameLower, String chosung,
+                        Map<String, String> row) {}
+
+    // 불변 스냅샷: 갱신 시 통째로 교체 → 조회는 락 없이 읽음
+    private record Snapshot(List<Farm> farms, List<Map<String, String>> rows, Map<Character, BitSet> charIndex,
+                            Set<String> codes) {}
+
+    private final AsMapper asMapper;
+    private final AsDataVersion asDataVersion;   // 농장 마스터 변경도 대시보드(농가/지역) 결과를 바꿈
+    private final DashFactCube dashFactCube;     // 농가명이 사실 행에 들어 있으므로 재구성
+    private final SidoResolver sidoResolver;     // 농장 지역(시도) 재정규화
+
+    private volatile Snapshot snapshot = null;
+    private volatile String version = null;
+
+    //========================================================================
+    // 1. 농장 디렉터리 적재
+    // 2. URL : (Component) 기동 시(AsWarmup) / refresh() 호출 시
+    // 3. Param :
+    // 4. 설명 : 사용 농장 전체를 읽어 글자 → 농장 비트맵 색인(이름/코드/초성) 구성 후 교체
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    public synchronized void refresh() {
+        String ver = currentVersion();
+        List<Map<String, String>> rows = asMapper.selectFarmList();
+
+        List<Farm> farms = new ArrayList<>(rows.size());
+        Map<Character, BitSet> charIndex = new HashMap<>();
+        for (Map<String, String> r : rows) {
+            String code = r.get("FARM_CODE");
+            String name = r.get("FARM_NAME") == null ? "" : r.get("FARM_NAME");
+            Farm f = new Farm(code, name,
+                    code == null ? "" : code.toLowerCase(Locale.ROOT),
+                    name.toLowerCase(Locale.ROOT),
+                    chosungOf(name),
+                    Collections.unmodifiableMap(r));
+            int idx = farms.size();
+            farms.add(f);
+            for (String s : List.of(f.codeLower(), f.nameLower(), f.chosung())) {
+                for (int i = 0; i < s.length(); i++) {
+                    charIndex.computeIfAbsent(s.charAt(i), k -> new BitSet()).set(idx);
+                }
+            }
+        }
+        snapshot = new Snapshot(List.copyOf(farms),
+                farms.stream().map(Farm::row).toList(), charIndex,
+                farms.stream().map(Farm::code).filter(Objects::nonNull).map(String::trim)
+                        .collect(java.util.stream.Collectors.toUnmodifiableSet()));
+        version = ver;
+        log.info("Farm directory loaded: {}", farms.size());
+    }
+
+    //========================================================================
+    // 1. 변경 감지 갱신
+    // 2. URL : (Component) 1분 주기
+    // 3. Param :
+    // 4. 설명 : 건수 + 최종 수정일시만 조회해서 달라졌을 때만 전체 재적재 (시도 매핑/대시보드 큐브도 재구성)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @Scheduled(fixedDelay = 60_000L, initialDelay = 60_000L)
+    public void refreshIfChanged() {
+        if (Objects.equals(version, currentVersion())) return;
+        refresh();
+        sidoResolver.refresh();
+        dashFactCube.rebuild();
+        asDataVersion.bumpAfterCommit();
+    }
+
+    //========================================================================
+    // 1. 전체 농장 목록
+    // 2. URL : (Component) 접수 등록/수정 화면, 빈 검색어 자동완성
+    // 3. Param :
+    // 4. 설명 : selectFarmList 와 동일 형식(FARM_CODE, FARM_NAME), 코드 순
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<Map<String, String>> all() {
+        return loaded().rows();
+    }
+
+    //========================================================================
+    // 1. 사용 농장 여부
+    // 2. URL : (Component) 일괄 등록 검증
+    // 3. Param : farmCode (optional)
+    // 4. 설명 : 디렉터리에 있는(USE_FLAG=1) 농장 코드인지. DB 조회 없음
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public boolean contains(String farmCode) {
+        return farmCode != null && loaded().codes().contains(farmCode.trim());
+    }
+
+    //========================================================================
+    // 1. 농장 자동완성 검색
+    // 2. URL : (Component) /api/as/searchFarmList
+    // 3. Param : keyword (optional), limit (required)
+    // 4. 설명 : 이름/코드 부분일치 + 초성 검색(ㅎㅂ → 한빛농장). DB 조회 없음
+    //          글자별 비트맵 교집합으로 후보를 좁힌 뒤 부분문자열 확인
+    //          순위: 코드 일치 > 코드 앞부분 > 이름 앞부분 > 초성 앞부분 > 이름 포함 > 초성 포함 > 코드 포함
+    //          동순위는 이름 짧은 순 → 코드 순
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<Map<String, String>> search(String keyword, int limit) {
+        Snapshot snap = loaded();
+        String kw = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        if (kw.isEmpty()) return snap.rows();
+
+        BitSet cand = null;
+        for (int i = 0; i < kw.length(); i++) {
+            BitSet b = snap.charIndex().get(kw.charAt(i));
+            if (b == null) return List.of();
+            if (cand == null) cand = (BitSet) b.clone();
+            else cand.and(b);
+            if (cand.isEmpty()) return List.of();
+        }
+
+        boolean chosungOnly = kw.chars().allMatch(FarmDirectory::isChosung);
+        List<long[]> hits = new ArrayList<>();  // [score, index]
+        for (int idx = cand.nextSetBit(0); idx >= 0; idx = cand.nextSetBit(idx + 1)) {
+            int score = scoreOf(snap.farms().get(idx), kw, chosungOnly);
+            if (score > 0) hits.add(new long[]{score, idx});
+        }
+        hits.sort((a, b) -> {
+            if (a[0] != b[0]) return Long.compare(b[0], a[0]);
+            Farm fa = snap.farms().get((int) a[1]);
+            Farm fb = snap.farms().get((int) b[1]);
+            int c = Integer.compare(fa.name().length(), fb.name().length());
+            return c != 0 ? c : String.valueOf(fa.code()).compareTo(String.valueOf(fb.code()));
+        });
+
+        List<Map<String, String>> out = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            out.add(snap.farms().get((int) hits.get(i)[1]).row());
+        }
+        return out;
+    }
+
+    private static int scoreOf(Farm f, String kw, boolean chosungOnly) {
+        if (f.codeLower().equals(kw))        return 100;
+        if (f.codeLower().startsWith(kw))    return 80;
+        if (f.nameLower().startsWith(kw))    return 70;
+        if (chosungOnly && f.chosung().startsWith(kw)) return 60;
+        if (f.nameLower().contains(kw))      return 50;
+        if (chosungOnly && f.chosung().contains(kw))   return 40;
+        if (f.codeLower().contains(kw))      return 30;
+        return 0;
+    }
+
+    private Snapshot loaded() {
+        Snapshot snap = snapshot;
+        if (snap == null) {
+            refresh();
+            snap = snapshot;
+        }
+        return snap;
+    }
+
+    private String currentVersion() {
+        Map<String, Object> v = asMapper.selectFarmDirectoryVersion();
+        return v == null ? null : v.values().toString();
+    }
+
+    // 한글 음절은 초성으로, 그 외 문자는 소문자 그대로
+    private static String chosungOf(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) sb.append(CHOSUNG[(c - 0xAC00) / (21 * 28)]);
+            else sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isChosung(int c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
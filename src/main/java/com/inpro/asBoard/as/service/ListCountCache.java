@@ -0,0 +1,101 @@
+package com.inpro.asBoard.as.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ListCountCache {
+
+    private static final long TTL_MILLIS  = 30_000L;  // 페이지 이동 동안만 유지
+    private static final int  MAX_ENTRIES = 500;
+
+    // 필터 키에서 제외(페이지/정렬/커서/뷰 보존용)
+    private static final Set<String> NON_FILTER_KEYS = Set.of(
+            "offset", "size", "page", "sortField", "sortDir", "withTotal",
+            "keyset", "seekAsc", "keyValue", "keyAsId", "typesRaw", "tablesRaw", "qIds"
+    );
+
+    private record Entry(int count, long expiresAt) {}
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    //========================================================================
+    // 1. 필터 정규화 키
+    // 2. URL : (Component)
+    // 3. Param : scope(required, 목록 구분), params(required, Mapper 파라미터 map)
+    // 4. 설명 : 페이지/정렬 값은 빼고, 목록형 값은 정렬하여 동일 필터면 같은 키가 되도록 구성
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public String keyOf(String scope, Map<String, Object> params) {
+        Map<String, Object> norm = new TreeMap<>();
+        params.forEach((k, v) -> {
+            if (NON_FILTER_KEYS.contains(k) || v == null) return;
+            if (v instanceof Collection<?> c) {
+                if (c.isEmpty()) return;
+                v = c.stream().map(String::valueOf).sorted().toList();
+            }
+            norm.put(k, v);
+        });
+        return scope + ":" + norm;
+    }
+
+    //========================================================================
+    // 1. 캐시 조회
+    // 2. URL : (Component)
+    // 3. Param : key(required)
+    // 4. 설명 : TTL 이 지난 항목은 제거 후 null
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public Integer get(String key) {
+        Entry e = cache.get(key);
+        if (e == null) return null;
+        if (e.expiresAt() < System.currentTimeMillis()) {
+            cache.remove(key, e);
+            return null;
+        }
+        return e.count();
+    }
+
+    //========================================================================
+    // 1. 캐시 저장
+    // 2. URL : (Component)
+    // 3. Param : key(required), count(required)
+    // 4. 설명 : 상한 초과 시 만료 항목 정리, 그래도 넘치면 전체 비움
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void put(String key, int count) {
+        long now = System.currentTimeMillis();
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(e -> e.expiresAt() < now);
+            if (cache.size() >= MAX_ENTRIES) cache.clear();
+        }
+        cache.put(key, new Entry(count, now + TTL_MILLIS));
+    }
+
+    //========================================================================
+    // 1. 전체 무효화 (커밋 후)
+    // 2. URL : (Component) TransactionSynchronization
+    // 3. Param :
+    // 4. 설명 : 접수/일정 변경 시 호출. 트랜잭션 안이면 COMMIT 후, 아니면 즉시 비움
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                cache.clear();
+            }
+        });
+    }
+}
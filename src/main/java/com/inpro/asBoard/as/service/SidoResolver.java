@@ -0,0 +1,133 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.DashMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SidoResolver {
+
+    // 시도 약칭 → ISO 3166-2:KR 코드 (static/geo/sido.json 의 ISO3166-2 와 같은 값), 접두어 비교 순서
+    private static final Map<String, String> SIDO_CODES = new LinkedHashMap<>();
+    static {
+        SIDO_CODES.put("서울", "KR-11"); SIDO_CODES.put("부산", "KR-26"); SIDO_CODES.put("대구", "KR-27");
+        SIDO_CODES.put("인천", "KR-28"); SIDO_CODES.put("광주", "KR-29"); SIDO_CODES.put("대전", "KR-30");
+        SIDO_CODES.put("울산", "KR-31"); SIDO_CODES.put("세종", "KR-50"); SIDO_CODES.put("경기", "KR-41");
+        SIDO_CODES.put("강원", "KR-42"); SIDO_CODES.put("충북", "KR-43"); SIDO_CODES.put("충남", "KR-44");
+        SIDO_CODES.put("전북", "KR-45"); SIDO_CODES.put("전남", "KR-46"); SIDO_CODES.put("경북", "KR-47");
+        SIDO_CODES.put("경남", "KR-48"); SIDO_CODES.put("제주", "KR-49");
+    }
+
+    // 도 정식 명칭 접두어 → 약칭 (충청북도 등은 약칭 접두어로 시작하지 않음)
+    private static final Map<String, String> LONG_PREFIXES = Map.of(
+            "충청북", "충북", "충청남", "충남", "전라북", "전북",
+            "전라남", "전남", "경상북", "경북", "경상남", "경남");
+
+    // 농장 1개 = 정규화 1회. 불변 스냅샷 통째로 교체 → 조회는 락 없이 읽음
+    private record Snapshot(Map<String, String> sidoByFarm, Map<String, String> nameByFarm,
+                            Map<String, List<String>> farmsBySido) {}
+
+    private final DashMapper dashMapper;
+
+    private volatile Snapshot snapshot = null;
+
+    //========================================================================
+    // 1. 농장 → 시도 적재
+    // 2. URL : (Component) 기동 시(AsWarmup) / 농장 마스터 변경 시(FarmDirectory)
+    // 3. Param :
+    // 4. 설명 : 사용 농장 전체의 REGION_NAME 을 한 번씩만 정규화해 농장코드 → 시도 맵 구성 후 교체
+    //          시도를 알 수 없는(지역 비어 있음) 농장은 제외
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 : agent(26.10.17) 기동 시 적재를 AsWarmup 백그라운드 순차 실행으로 이동
+    //========================================================================
+    public synchronized void refresh() {
+        Map<String, String> sidoByFarm = new HashMap<>();
+        Map<String, String> nameByFarm = new HashMap<>();
+        Map<String, List<String>> farmsBySido = new TreeMap<>();
+        for (Map<String, String> r : dashMapper.selectFarmRegions()) {
+            String code = r.get("FARM_CODE");
+            String sido = normalize(r.get("REGION_NAME"));
+            if (code == null || sido == null) continue;
+            code = code.trim();
+            sidoByFarm.put(code, sido);
+            nameByFarm.put(code, r.get("FARM_NAME"));
+            farmsBySido.computeIfAbsent(sido, k -> new ArrayList<>()).add(code);
+        }
+        farmsBySido.replaceAll((k, v) -> List.copyOf(v));
+        snapshot = new Snapshot(Map.copyOf(sidoByFarm), Collections.unmodifiableMap(nameByFarm),
+                Collections.unmodifiableMap(farmsBySido));
+        log.info("Sido resolver loaded: farms={}, sidos={}", sidoByFarm.size(), farmsBySido.size());
+    }
+
+    //========================================================================
+    // 1. 농장 시도
+    // 2. URL : (Component) 지역별 건수 / 시도별 농장
+    // 3. Param : farmCode (optional)
+    // 4. 설명 : 사용 농장의 시도 약칭(서울/경기/...), 사용 안 함/미등록/지역 없음은 null
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public String sidoOf(String farmCode) {
+        return farmCode == null ? null : loaded().sidoByFarm().get(farmCode.trim());
+    }
+
+    //========================================================================
+    // 1. 시도 소속 농장
+    // 2. URL : (Component) 시도별 농장 드릴다운
+    // 3. Param : sido (required, 약칭 또는 KR-xx 코드)
+    // 4. 설명 : 해당 시도의 사용 농장 코드 목록 (코드 순), 없으면 빈 목록
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    public List<String> farmsOf(String sido) {
+        String name = nameOf(sido);
+        return name == null ? List.of() : loaded().farmsBySido().getOrDefault(name, List.of());
+    }
+
+    public String farmName(String farmCode) {
+        return farmCode == null ? null : loaded().nameByFarm().get(farmCode.trim());
+    }
+
+    // 약칭 → KR-xx (17개 외 지역명은 null)
+    public static String codeOf(String sido) {
+        return sido == null ? null : SIDO_CODES.get(sido);
+    }
+
+    // 약칭 또는 KR-xx → 약칭 (17개 외 지역명은 그대로)
+    public static String nameOf(String sidoOrCode) {
+        if (sidoOrCode == null || sidoOrCode.isBlank()) return null;
+        String s = sidoOrCode.trim();
+        for (Map.Entry<String, String> e : SIDO_CODES.entrySet()) {
+            if (e.getValue().equalsIgnoreCase(s)) return e.getKey();
+        }
+        return s;
+    }
+
+    // REGION_NAME 규칙 : 앞뒤 공백 제거 후 '/' 앞(없으면 첫 공백 앞) → 17개 시도 접두어(도 정식 명칭 포함) 표준화
+    //                   빈 값은 null
+    static String normalize(String regionName) {
+        if (regionName == null) return null;
+        String region = regionName.trim();
+        int slash = region.indexOf('/');
+        int space = region.indexOf(' ');
+        String raw = (slash >= 0 ? region.substring(0, slash)
+                : space >= 0 ? region.substring(0, space) : region).trim();
+        for (String p : SIDO_CODES.keySet()) if (raw.startsWith(p)) return p;
+        for (Map.Entry<String, String> e : LONG_PREFIXES.entrySet()) if (raw.startsWith(e.getKey())) return e.getValue();
+        return raw.isEmpty() ? null : raw;
+    }
+
+    private Snapshot loaded() {
+        Snapshot snap = snapshot;
+        if (snap == null) {
+            refresh();
+            snap = snapshot;
+        }
+        return snap;
+    }
+}
@@ -0,0 +1,25 @@
+package com.inpro.asBoard.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    //========================================================================
+    // 1. 기준 시계
+    // 2. URL : (Config) 대시보드 기간 경계(오늘/이번주/이번달) 계산
+    // 3. Param :
+    // 4. 설명 : 서버 기본 시간대 시스템 시계. 테스트에서는 Clock.fixed(...) 를 주입해 경계 검증 (DashServicePeriodTest)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @Bean
+    @ConditionalOnMissingBean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
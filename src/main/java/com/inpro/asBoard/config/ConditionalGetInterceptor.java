@@ -0,0 +1,35 @@
+package com.inpro.asBoard.config;
+
+import com.inpro.asBoard.as.service.AsDataVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final AsDataVersion asDataVersion;
+
+    //========================================================================
+    // 1. 조건부 GET (ETag / If-None-Match)
+    // 2. URL : (Interceptor) WebConfig 에 등록한 AS 목록/상세/일정, /api/dash/** 조회
+    // 3. Param : request, response, handler
+    // 4. 설명 : 컨트롤러 실행 전에 데이터 버전 ETag 를 비교해 같으면 304 로 바로 종료 (Mapper 조회 없음)
+    //          다르면 ETag 를 실어 그대로 진행
+    //          Cache-Control 을 먼저 지정해 Security 기본 no-store 대신 매번 재검증하도록 함
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(asDataVersion.etag());
+    }
+}
@@ -0,0 +1,17 @@
+package com.inpro.asBoard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//========================================================================
+// 1. 스케줄러 활성화
+// 2. URL : (Config) @Scheduled 작업 등록
+// 3. Param :
+// 4. 설명 : AS 상태 프로젝션 자정 스윕 등 주기 작업 실행
+// 5. 작성 : agent(26.10.17)
+// 6. 수정 :
+//========================================================================
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
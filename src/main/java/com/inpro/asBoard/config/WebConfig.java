@@ -3,6 +3,7 @@ package com.inpro.asBoard.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,6 +15,7 @@ import java.nio.file.Paths;
 public class WebConfig implements WebMvcConfigurer {
 
     private final FileStorageProps props;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
 
     //========================================================================
     // 1. 업로드 공개경로 매핑 설정
@@ -37,4 +39,22 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations(fileLocation)   // 외부 디렉토리 노출
                 .setCachePeriod(3600);
     }
+
+    //========================================================================
+    // 1. 조건부 GET 인터셉터 등록
+    // 2. URL : (Config) 인터셉터
+    // 3. Param :
+    // 4. 설명 : AS 데이터만으로 그려지는 조회 화면/API 에만 ETag 적용
+    //          (등록/수정 폼, 엑셀 다운로드, 검색 자동완성, 변경분 조회는 제외)
+    // 5. 작성 : agent(26.10.17)
+    // 6. 수정 :
+    //========================================================================
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns(
+                        "/as/list", "/as/detail/*", "/as/calendar", "/as/schedule",
+                        "/api/as/list", "/api/as/facets", "/api/as/calendar",
+                        "/api/dash/**");
+    }
 }
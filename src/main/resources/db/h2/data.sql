@@ -18,3 +18,33 @@ VALUES
   ('100001','001','001','001','1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '냉방기-1'),
   ('100002','001','001','002','1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '냉방기-2'),
   ('100003','002','001','001','1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '냉방기-3');
+
+-- ===== SF_TBL_AS_EQUIP_SOURCE (장비 테이블 메타) =====
+INSERT INTO SF_TBL_AS_EQUIP_SOURCE (TABLE_NAME, SUB_COL, NAME_COL, DATE_COL, USE_FLAG)
+VALUES
+  ('SF_TBL_AIRCON', 'SUB_SEQ', 'AIRCON_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_BRUSH', 'SUB_SEQ', 'BRUSH_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_COOLER', 'SUB_SEQ', 'COOLER_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_ENVIRON', 'SUB_SEQ', 'ENVIRON_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_ENVIRON_L', 'SUB_SEQ', 'DEVICE_NAME', 'WRT_DATETIME', '1'),
+  ('SF_TBL_EQMNT', 'EQMNT_KIND', 'EQMNT_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_FEEDBIN', 'SUB_SEQ', 'FEED_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_FEEDBIN_B', 'SUB_SEQ', 'FEED_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_FEEDBIN_L', 'SUB_SEQ', 'FEED_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_FOG', 'SUB_SEQ', 'FOG_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_LIGHT', 'SUB_SEQ', 'LIGHT_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_METER', 'SUB_SEQ', 'METER_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_METER_S', 'SUB_SEQ', 'METER_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_ROOF', 'SUB_SEQ', 'ROOF_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_STER', 'SUB_SEQ', 'STER_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_STER_Q', 'SUB_SEQ', 'STER_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_STER_V', 'SUB_SEQ', 'STER_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_VEHICLE', 'SUB_SEQ', 'VEHICLE_NAME', NULL, '1'),
+  ('SF_TBL_VEHICLE_A', 'SUB_SEQ', 'VEHICLE_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_VENTIL', 'SUB_SEQ', 'VENTIL_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_VENTIL_C', 'SUB_SEQ', 'VENTIL_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_VENTIL_D', 'SUB_SEQ', 'VENTIL_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_VENTIL_P', 'SUB_SEQ', 'VENTIL_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_VENTIL_S', 'SUB_SEQ', 'VENTIL_NAME', 'USE_DATETIME', '1'),
+  ('SF_TBL_WIND', 'SUB_SEQ', 'WIND_NAME', 'USE_DATE', '1'),
+  ('SF_TBL_WIND_D', 'SUB_SEQ', 'WIND_NAME', 'USE_DATE', '1');
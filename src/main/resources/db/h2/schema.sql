@@ -2,11 +2,14 @@
 -- If you run outside Spring with a plain H2 console, you can also do:
 -- SET MODE MSSQLServer;
 
+DROP TABLE IF EXISTS SF_TBL_AS_STATUS;
+DROP TABLE IF EXISTS SF_TBL_AS_EQUIP_SOURCE;
 DROP TABLE IF EXISTS SF_TBL_AS_FILE;
 DROP TABLE IF EXISTS SF_TBL_AS_SCHEDULE;
 DROP TABLE IF EXISTS SF_TBL_AS_EQUIP;
 DROP TABLE IF EXISTS SF_TBL_AS_HEADER;
 DROP TABLE IF EXISTS USERS;
+DROP SEQUENCE IF EXISTS SEQ_AS_HEADER_VER;
 
 -- USERS
 CREATE TABLE USERS (
@@ -19,6 +22,8 @@ CREATE TABLE USERS (
 );
 
 -- SF_TBL_AS_HEADER
+-- ROW_VER : MSSQL rowversion 대응 (INSERT/UPDATE 마다 전역 증가, 변경분 조회 커서)
+CREATE SEQUENCE SEQ_AS_HEADER_VER;
 CREATE TABLE SF_TBL_AS_HEADER (
   AS_ID        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
   FARM_CODE    VARCHAR(6)   NOT NULL,
@@ -32,7 +37,8 @@ CREATE TABLE SF_TBL_AS_HEADER (
   AS_RESULT    CLOB,
   ETC          CLOB,
   STATUS_FLAG  VARCHAR(1) NOT NULL DEFAULT '1',
-  USE_FLAG     VARCHAR(1) NOT NULL DEFAULT '1'
+  USE_FLAG     VARCHAR(1) NOT NULL DEFAULT '1',
+  ROW_VER      BIGINT NOT NULL DEFAULT NEXT VALUE FOR SEQ_AS_HEADER_VER ON UPDATE NEXT VALUE FOR SEQ_AS_HEADER_VER
 );
 
 -- SF_TBL_AS_EQUIP
@@ -79,10 +85,49 @@ CREATE TABLE SF_TBL_AS_FILE (
     FOREIGN KEY (AS_ID) REFERENCES SF_TBL_AS_HEADER(AS_ID)
 );
 
+-- SF_TBL_AS_STATUS (AS별 상태 프로젝션: 쓰기 시 갱신 + 자정 스윕)
+CREATE TABLE SF_TBL_AS_STATUS (
+  AS_ID              BIGINT      NOT NULL PRIMARY KEY,
+  STATUS_LABEL       VARCHAR(10) NOT NULL,
+  NEXT_PLAN_DATE     TIMESTAMP,
+  FIRST_PENDING_PLAN DATE,
+  TOTAL_CNT          INT NOT NULL DEFAULT 0,
+  DONE_CNT           INT NOT NULL DEFAULT 0,
+  PENDING_CNT        INT NOT NULL DEFAULT 0,
+  UPD_DATE           TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT FK_AS_STATUS_HEADER
+    FOREIGN KEY (AS_ID) REFERENCES SF_TBL_AS_HEADER(AS_ID)
+);
+
+-- SF_TBL_AS_DAILY_STAT (일별 롤업: 일 × 농장 × 장비 테이블('*' = AS 헤더 단위) × 4분류 건수, 쓰기 시 증감)
+CREATE TABLE SF_TBL_AS_DAILY_STAT (
+  STAT_DATE   DATE        NOT NULL,
+  FARM_CODE   VARCHAR(6)  NOT NULL,
+  TABLE_NAME  VARCHAR(64) NOT NULL,
+  CATEGORY    VARCHAR(16) NOT NULL,
+  AS_CNT      INT         NOT NULL DEFAULT 0,
+  AS_ID_SUM   BIGINT      NOT NULL DEFAULT 0,
+  PRIMARY KEY (STAT_DATE, FARM_CODE, TABLE_NAME, CATEGORY)
+);
+
+-- SF_TBL_AS_EQUIP_SOURCE (장비 테이블 메타: 하위 키/장비명/사용일시 컬럼)
+CREATE TABLE SF_TBL_AS_EQUIP_SOURCE (
+  TABLE_NAME VARCHAR(64) NOT NULL PRIMARY KEY,
+  SUB_COL    VARCHAR(64) NOT NULL,
+  NAME_COL   VARCHAR(64) NOT NULL,
+  DATE_COL   VARCHAR(64),
+  USE_FLAG   CHAR(1)     NOT NULL DEFAULT '1'
+);
+
 -- Helpful indexes (optional but recommended)
 CREATE INDEX IDX_SCHEDULE_ASID ON SF_TBL_AS_SCHEDULE(AS_ID);
+CREATE INDEX IDX_SCHEDULE_PLAN_DATE ON SF_TBL_AS_SCHEDULE(PLAN_DATE);
 CREATE INDEX IDX_EQUIP_ASID    ON SF_TBL_AS_EQUIP(AS_ID);
 CREATE INDEX IDX_FILE_ASID     ON SF_TBL_AS_FILE(AS_ID);
+CREATE INDEX IDX_HEADER_ROW_VER  ON SF_TBL_AS_HEADER(ROW_VER);
+CREATE INDEX IDX_AS_STATUS_LABEL   ON SF_TBL_AS_STATUS(STATUS_LABEL);
+CREATE INDEX IDX_AS_STATUS_PENDING ON SF_TBL_AS_STATUS(FIRST_PENDING_PLAN);
+CREATE INDEX IDX_DAILY_STAT_TABLE  ON SF_TBL_AS_DAILY_STAT(TABLE_NAME, STAT_DATE);
 
 -- ===== SF_TBL_FARM =====
 CREATE TABLE SF_TBL_FARM (
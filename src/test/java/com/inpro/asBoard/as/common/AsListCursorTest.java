@@ -0,0 +1,36 @@
+package com.inpro.asBoard.as.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsListCursorTest {
+
+    @Test
+    void roundTripsEveryValueKind() {
+        LocalDateTime at = LocalDateTime.of(2025, 9, 1, 10, 30, 15);
+        for (Object value : new Object[]{null, 42L, "한빛|농장", at}) {
+            AsListCursor cur = new AsListCursor(true, "regDate", "desc", value, 123L);
+            AsListCursor back = AsListCursor.decode(cur.encode());
+            assertThat(back).isEqualTo(cur);
+        }
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new AsListCursor(false, "farmName", "asc", "???>>>~~~", 9L).encode();
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> AsListCursor.decode("!!!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AsListCursor.decode("YWJj")).isInstanceOf(IllegalArgumentException.class);
+        String badKind = java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("N\u001FasId\u001Fdesc\u001FX\u001F1\u001F1".getBytes());
+        assertThatThrownBy(() -> AsListCursor.decode(badKind)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.inpro.asBoard.as.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SheetRowReaderTest {
+
+    private record Row(int rowNum, List<String> cells) {}
+
+    private static List<Row> read(byte[] bytes) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        SheetRowReader.readCsv(new ByteArrayInputStream(bytes), (n, cells) -> rows.add(new Row(n, List.copyOf(cells))));
+        return rows;
+    }
+
+    private static List<Row> read(String csv) throws IOException {
+        return read(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void splitsPlainRowsAndKeepsEmptyCells() throws IOException {
+        List<Row> rows = read("a,b,c\n1,,3\n,,\n");
+
+        assertThat(rows).containsExactly(
+                new Row(1, List.of("a", "b", "c")),
+                new Row(2, List.of("1", "", "3")),
+                new Row(3, List.of("", "", "")));
+    }
+
+    @Test
+    void quotedCellKeepsCommasAndDoubledQuotes() throws IOException {
+        List<Row> rows = read("농가코드,접수내용\n100001,\"펌프, 밸브 \"\"긴급\"\" 점검\"\n");
+
+        assertThat(rows.get(1).cells()).containsExactly("100001", "펌프, 밸브 \"긴급\" 점검");
+    }
+
+    @Test
+    void quotedCellKeepsEmbeddedLineBreaksWithoutStartingNewRow() throws IOException {
+        List<Row> rows = read("장비,비고\r\n\"SF_TBL_EQMNT:1\r\n미등록:보일러\",x\r\n100002,y");
+
+        assertThat(rows).containsExactly(
+                new Row(1, List.of("장비", "비고")),
+                new Row(2, List.of("SF_TBL_EQMNT:1\r\n미등록:보일러", "x")),
+                new Row(3, List.of("100002", "y")));
+    }
+
+    @Test
+    void crlfAndLoneCrEndRowsOnce() throws IOException {
+        List<Row> rows = read("a\r\nb\rc\n");
+
+        assertThat(rows).extracting(Row::cells).containsExactly(List.of("a"), List.of("b"), List.of("c"));
+        assertThat(rows).extracting(Row::rowNum).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void lastRowWithoutNewlineIsEmitted() throws IOException {
+        assertThat(read("a,b\n1,2")).extracting(Row::cells).containsExactly(List.of("a", "b"), List.of("1", "2"));
+        assertThat(read("")).isEmpty();
+    }
+
+    @Test
+    void utf8BomIsSkipped() throws IOException {
+        List<Row> rows = read("\uFEFF농가코드,접수내용\n100001,누수\n");
+
+        assertThat(rows.get(0).cells()).containsExactly("농가코드", "접수내용");
+        assertThat(rows.get(1).cells()).containsExactly("100001", "누수");
+    }
+
+    @Test
+    void nonUtf8InputIsReadAsMs949() throws IOException {
+        byte[] ms949 = "농가코드,접수내용\n100001,\"급수, 누수\"\n".getBytes(Charset.forName("MS949"));
+
+        List<Row> rows = read(ms949);
+
+        assertThat(rows.get(0).cells()).containsExactly("농가코드", "접수내용");
+        assertThat(rows.get(1).cells()).containsExactly("100001", "급수, 누수");
+    }
+}
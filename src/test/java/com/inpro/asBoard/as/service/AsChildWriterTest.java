@@ -0,0 +1,195 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsEquipDto;
+import com.inpro.asBoard.as.dto.AsScheduleDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AsChildWriterTest {
+
+    private static final long AS_ID = 10L;
+    private static final LocalDateTime T = LocalDateTime.of(2025, 9, 1, 9, 30);
+
+    private AsMapper mapper;
+    private AsChildWriter writer;
+
+    // 실행 시점 내용 보관 (subList 뷰라 호출 후 원본이 바뀔 수 있음)
+    private final List<List<Long>> deletedEquipIds = new ArrayList<>();
+    private final List<List<AsEquipDto>> insertedEquips = new ArrayList<>();
+    private final List<List<Long>> deletedScheduleIds = new ArrayList<>();
+    private final List<List<AsScheduleDto>> updatedSchedules = new ArrayList<>();
+    private final List<List<AsScheduleDto>> insertedSchedules = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(AsMapper.class);
+        doAnswer(inv -> deletedEquipIds.add(new ArrayList<>(inv.<List<Long>>getArgument(1))))
+                .when(mapper).deleteEquipByIds(eq(AS_ID), anyList());
+        doAnswer(inv -> insertedEquips.add(new ArrayList<>(inv.<List<AsEquipDto>>getArgument(0))))
+                .when(mapper).insertAsEquipBatch(anyList());
+        doAnswer(inv -> deletedScheduleIds.add(new ArrayList<>(inv.<List<Long>>getArgument(1))))
+                .when(mapper).deleteScheduleByIds(eq(AS_ID), anyList());
+        doAnswer(inv -> updatedSchedules.add(new ArrayList<>(inv.<List<AsScheduleDto>>getArgument(1))))
+                .when(mapper).updateScheduleBatch(eq(AS_ID), anyList());
+        doAnswer(inv -> insertedSchedules.add(new ArrayList<>(inv.<List<AsScheduleDto>>getArgument(0))))
+                .when(mapper).insertScheduleBatch(anyList());
+        writer = new AsChildWriter(mapper);
+    }
+
+    private static AsEquipDto equip(Long id, String table, String seq, String sub, String name, LocalDateTime useDate) {
+        AsEquipDto e = new AsEquipDto();
+        e.setAsEquipId(id);
+        e.setTableName(table);
+        e.setEqmntSeq(seq);
+        e.setSubSeq(sub);
+        e.setEqmntName(name);
+        e.setUseDate(useDate);
+        return e;
+    }
+
+    private static AsScheduleDto schedule(Long id, LocalDateTime plan, LocalDateTime complete, String content) {
+        AsScheduleDto s = new AsScheduleDto();
+        s.setScheduleId(id);
+        s.setPlanDate(plan);
+        s.setCompleteDate(complete);
+        s.setAsContent(content);
+        return s;
+    }
+
+    // ===== 장비 =====
+
+    @Test
+    void equipsUnchangedIgnoringWhitespaceAndSecondsRunNoWrites() {
+        when(mapper.selectEquipListByAsId(AS_ID)).thenReturn(List.of(
+                equip(1L, "SF_TBL_EQMNT", "1", "1", "펌프", T),
+                equip(2L, "SF_TBL_EQMNT", "1", "2", "밸브", null)));
+
+        writer.reconcileEquips(AS_ID, List.of(
+                equip(null, "SF_TBL_EQMNT", " 1", "2 ", "밸브", null),
+                equip(null, "SF_TBL_EQMNT", "1", "1", " 펌프 ", T.plusSeconds(42))));
+
+        verify(mapper, never()).deleteEquipByIds(anyLong(), anyList());
+        verify(mapper, never()).insertAsEquipBatch(anyList());
+    }
+
+    @Test
+    void changedEquipIsDeletedAndReinsertedWithAsId() {
+        when(mapper.selectEquipListByAsId(AS_ID)).thenReturn(List.of(
+                equip(1L, "SF_TBL_EQMNT", "1", "1", "펌프", null),
+                equip(2L, "SF_TBL_EQMNT", "1", "2", "밸브", null)));
+
+        writer.reconcileEquips(AS_ID, List.of(
+                equip(null, "SF_TBL_EQMNT", "1", "1", "펌프", null),
+                equip(null, "SF_TBL_EQMNT", "1", "2", "밸브(교체)", null)));
+
+        assertThat(deletedEquipIds).containsExactly(List.of(2L));
+        assertThat(insertedEquips).hasSize(1);
+        AsEquipDto added = insertedEquips.get(0).get(0);
+        assertThat(added.getEqmntName()).isEqualTo("밸브(교체)");
+        assertThat(added.getAsId()).isEqualTo(AS_ID);
+        assertThat(added.getUseFlag()).isTrue();
+    }
+
+    @Test
+    void duplicateEquipRowsArePairedOneToOne() {
+        when(mapper.selectEquipListByAsId(AS_ID)).thenReturn(List.of(
+                equip(1L, "SF_TBL_EQMNT", "1", "1", "펌프", null),
+                equip(2L, "SF_TBL_EQMNT", "1", "1", "펌프", null)));
+
+        writer.reconcileEquips(AS_ID, List.of(equip(null, "SF_TBL_EQMNT", "1", "1", "펌프", null)));
+        assertThat(deletedEquipIds).containsExactly(List.of(2L));
+        assertThat(insertedEquips).isEmpty();
+
+        deletedEquipIds.clear();
+        writer.reconcileEquips(AS_ID, List.of(
+                equip(null, "SF_TBL_EQMNT", "1", "1", "펌프", null),
+                equip(null, "SF_TBL_EQMNT", "1", "1", "펌프", null),
+                equip(null, "SF_TBL_EQMNT", "1", "1", "펌프", null)));
+        assertThat(deletedEquipIds).isEmpty();
+        assertThat(insertedEquips).hasSize(1);
+        assertThat(insertedEquips.get(0)).hasSize(1);
+    }
+
+    @Test
+    void nullIncomingDeletesAllEquipsInChunks() {
+        List<AsEquipDto> existing = LongStream.rangeClosed(1, 450)
+                .mapToObj(id -> equip(id, "SF_TBL_EQMNT", String.valueOf(id), "1", "e" + id, null))
+                .toList();
+        when(mapper.selectEquipListByAsId(AS_ID)).thenReturn(existing);
+
+        writer.reconcileEquips(AS_ID, null);
+
+        assertThat(deletedEquipIds).extracting(List::size).containsExactly(200, 200, 50);
+        assertThat(deletedEquipIds.stream().flatMap(List::stream).sorted().toList())
+                .isEqualTo(LongStream.rangeClosed(1, 450).boxed().toList());
+        assertThat(insertedEquips).isEmpty();
+    }
+
+    // ===== 일정 =====
+
+    @Test
+    void schedulesEqualToTheMinuteAndBlankContentRunNoWrites() {
+        when(mapper.selectScheduleListByAsId(AS_ID)).thenReturn(List.of(
+                schedule(1L, T, null, null),
+                schedule(2L, T, T.plusDays(1), "점검")));
+
+        writer.reconcileSchedules(AS_ID, List.of(
+                schedule(1L, T.plusSeconds(59), null, ""),
+                schedule(2L, T, T.plusDays(1).plusSeconds(5), "점검")));
+
+        verify(mapper, never()).deleteScheduleByIds(anyLong(), anyList());
+        verify(mapper, never()).updateScheduleBatch(anyLong(), anyList());
+        verify(mapper, never()).insertScheduleBatch(anyList());
+    }
+
+    @Test
+    void schedulesAreDiffedByIdIntoDeleteUpdateAndInsert() {
+        when(mapper.selectScheduleListByAsId(AS_ID)).thenReturn(List.of(
+                schedule(1L, T, null, null),            // 유지
+                schedule(2L, T, null, null),            // 완료 처리 → 수정
+                schedule(3L, T, null, "a"),             // 내용 변경 → 수정
+                schedule(4L, T, null, null)));          // 빠짐 → 삭제
+
+        AsScheduleDto foreign = schedule(99L, T.plusDays(7), null, null);   // 다른 AS 의 ID
+        AsScheduleDto fresh = schedule(null, T.plusDays(14), null, null);
+        writer.reconcileSchedules(AS_ID, List.of(
+                schedule(1L, T, null, null),
+                schedule(2L, T, T.plusHours(1), null),
+                schedule(3L, T, null, "b"),
+                foreign,
+                fresh));
+
+        assertThat(deletedScheduleIds).containsExactly(List.of(4L));
+        assertThat(updatedSchedules).hasSize(1);
+        assertThat(updatedSchedules.get(0)).extracting(AsScheduleDto::getScheduleId).containsExactly(2L, 3L);
+        assertThat(insertedSchedules).hasSize(1);
+        assertThat(insertedSchedules.get(0)).containsExactly(foreign, fresh);
+        assertThat(foreign.getScheduleId()).isNull();
+        assertThat(insertedSchedules.get(0)).allSatisfy(s -> {
+            assertThat(s.getAsId()).isEqualTo(AS_ID);
+            assertThat(s.getUseFlag()).isTrue();
+        });
+    }
+
+    @Test
+    void clearingPlanDateCountsAsChange() {
+        when(mapper.selectScheduleListByAsId(AS_ID)).thenReturn(List.of(schedule(1L, T, null, null)));
+
+        writer.reconcileSchedules(AS_ID, List.of(schedule(1L, null, null, null)));
+
+        ArgumentCaptor<List<AsScheduleDto>> rows = ArgumentCaptor.forClass(List.class);
+        verify(mapper).updateScheduleBatch(eq(AS_ID), rows.capture());
+        assertThat(rows.getValue()).extracting(AsScheduleDto::getScheduleId).containsExactly(1L);
+    }
+}
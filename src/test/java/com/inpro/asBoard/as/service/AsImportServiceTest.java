@@ -0,0 +1,222 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.*;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AsImportServiceTest {
+
+    private static final String FARM = "100001";
+
+    private AsImportService service;
+    private final List<AsDto> headers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AsMapper mapper = mock(AsMapper.class);
+        AtomicLong seq = new AtomicLong();
+        doAnswer(inv -> {
+            AsDto d = inv.getArgument(0);
+            d.setAsId(seq.incrementAndGet());
+            headers.add(d);
+            return null;
+        }).when(mapper).insertAsHeader(any());
+
+        FarmDirectory farmDirectory = mock(FarmDirectory.class);
+        when(farmDirectory.contains(FARM)).thenReturn(true);
+
+        EquipSourceRegistry registry = mock(EquipSourceRegistry.class);
+        when(registry.get("SF_TBL_EQMNT")).thenReturn(new EquipSourceDto());
+        when(registry.get("SF_TBL_SENSOR")).thenReturn(new EquipSourceDto());
+
+        // SENSOR 7 번은 SUB_SEQ 1, 2 두 개 → SUB_SEQ 없이 지정하면 모호
+        EquipCatalogService catalog = mock(EquipCatalogService.class);
+        when(catalog.catalogOf(FARM)).thenReturn(Map.of(
+                "SF_TBL_EQMNT", List.of(row(1, "A", "양액기")),
+                "SF_TBL_SENSOR", List.of(row(7, "1", "온도센서1"), row(7, "2", "온도센서2"), row(8, "1", "습도센서"))));
+
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(tx).executeWithoutResult(any());
+
+        service = new AsImportService(mapper, mock(AsChildWriter.class), mock(AsStatusService.class),
+                mock(AsSearchIndex.class), mock(DashFactCube.class), mock(DashDailyStatService.class),
+                mock(ListCountCache.class), mock(AsDataVersion.class), farmDirectory, registry, catalog, tx);
+    }
+
+    private static Map<String, Object> row(int seq, String sub, String name) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("EQMNT_SEQ", seq);
+        m.put("SUB_SEQ", sub);
+        m.put("EQMNT_NAME", name);
+        return m;
+    }
+
+    private AsImportReportDto importCsv(String csv) throws IOException {
+        return service.importFile(new MockMultipartFile("file", "as.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> errors(AsImportReportDto report) {
+        return report.getErrors().stream().map(AsImportReportDto.RowError::getMessage).toList();
+    }
+
+    // ===== 장비 =====
+
+    @Test
+    void unregisteredEquipKeepsNameAfterFirstColon() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,장비\n" + FARM + ",\"미등록: 보일러:2호기 ; unregistered:펌프\"\n");
+
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(headers.get(0).getEquipList())
+                .extracting(AsEquipDto::getTableName, AsEquipDto::getEqmntName)
+                .containsExactly(
+                        tuple("UNREGISTERED", "보일러:2호기"),
+                        tuple("UNREGISTERED", "펌프"));
+    }
+
+    @Test
+    void unregisteredEquipWithoutNameFails() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,장비\n" + FARM + ",미등록:\n" + FARM + ",미등록\n");
+
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(errors(report)).allMatch(m -> m.startsWith("미등록 장비명 누락"));
+    }
+
+    @Test
+    void ambiguousSubSeqFailsUntilSubSeqIsGiven() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,장비\n"
+                + FARM + ",SF_TBL_SENSOR:7\n"
+                + FARM + ",SF_TBL_SENSOR:7:2\n"
+                + FARM + ",SF_TBL_SENSOR:008\n");
+
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(e -> {
+            assertThat(e.getRow()).isEqualTo(2);
+            assertThat(e.getMessage()).isEqualTo("SUB_SEQ 지정 필요: SF_TBL_SENSOR:7");
+        });
+        assertThat(headers).hasSize(2);
+        assertThat(headers.get(0).getEquipList()).extracting(AsEquipDto::getEqmntName).containsExactly("온도센서2");
+        assertThat(headers.get(1).getEquipList()).extracting(AsEquipDto::getEqmntName).containsExactly("습도센서");
+    }
+
+    @Test
+    void eqmntTableStoresSubColumnAsKind() throws IOException {
+        importCsv("농가코드,장비\n" + FARM + ",SF_TBL_EQMNT:1\n");
+
+        AsEquipDto e = headers.get(0).getEquipList().get(0);
+        assertThat(e.getEqmntSeq()).isEqualTo("1");
+        assertThat(e.getSubSeq()).isNull();
+        assertThat(e.getEqmntKind()).isEqualTo("A");
+    }
+
+    @Test
+    void unknownTableMissingSeqAndMissingEquipFail() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,장비\n"
+                + FARM + ",SF_TBL_NOPE:1\n"
+                + FARM + ",SF_TBL_EQMNT\n"
+                + FARM + ",SF_TBL_EQMNT:9\n");
+
+        assertThat(errors(report)).containsExactly(
+                "알 수 없는 장비 테이블: SF_TBL_NOPE",
+                "장비 SEQ 누락: SF_TBL_EQMNT",
+                "농가에 없는 장비: SF_TBL_EQMNT:9");
+        assertThat(report.getInserted()).isZero();
+    }
+
+    // ===== 일정 / 날짜 =====
+
+    @Test
+    void planAndCompleteDatesPairByPositionAcceptingSeveralFormats() throws IOException {
+        importCsv("농가코드,예정일,완료일\n" + FARM + ",2025.09.01 10:00;2025/9/8;2025-09-15T08:30:15,2025-09-01 11:00;;\n");
+
+        assertThat(headers.get(0).getScheduleList())
+                .extracting(AsScheduleDto::getPlanDate, AsScheduleDto::getCompleteDate)
+                .containsExactly(
+                        tuple(LocalDateTime.of(2025, 9, 1, 10, 0), LocalDateTime.of(2025, 9, 1, 11, 0)),
+                        tuple(LocalDateTime.of(2025, 9, 8, 0, 0), null),
+                        tuple(LocalDateTime.of(2025, 9, 15, 8, 30, 15), null));
+    }
+
+    @Test
+    void fewerCompleteDatesThanPlansLeavesRestOpen() throws IOException {
+        importCsv("농가코드,예정일,완료일\n" + FARM + ",2025-09-01;2025-09-08,2025-09-02\n");
+
+        assertThat(headers.get(0).getScheduleList()).extracting(AsScheduleDto::getCompleteDate)
+                .containsExactly(LocalDateTime.of(2025, 9, 2, 0, 0), null);
+    }
+
+    @Test
+    void moreCompleteDatesThanPlansFails() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,예정일,완료일\n" + FARM + ",2025-09-01,2025-09-02;2025-09-09\n");
+
+        assertThat(errors(report)).containsExactly("완료일에 대응하는 예정일 누락 (2번째)");
+        assertThat(headers).isEmpty();
+    }
+
+    @Test
+    void malformedDateReportsLabelAndValue() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,접수일,예정일\n"
+                + FARM + ",2025-13-01,\n"
+                + FARM + ",,09/01/2025\n");
+
+        assertThat(errors(report)).containsExactly("접수일 형식 오류: 2025-13-01", "예정일 형식 오류: 09/01/2025");
+    }
+
+    @Test
+    void unknownFarmAndBlankRowsAreHandledPerRow() throws IOException {
+        AsImportReportDto report = importCsv("농가코드,접수내용\n" + FARM + ",a\n,\n999999,b\n");
+
+        assertThat(report.getTotal()).isEqualTo(2);
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(e -> {
+            assertThat(e.getRow()).isEqualTo(4);
+            assertThat(e.getMessage()).isEqualTo("등록되지 않은 농가코드: 999999");
+        });
+    }
+
+    @Test
+    void chunkStatusRefreshUsesOnlyInsertedIds() throws IOException {
+        AsStatusService status = mock(AsStatusService.class);
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(tx).executeWithoutResult(any());
+        AsMapper mapper = mock(AsMapper.class);
+        AtomicLong seq = new AtomicLong(40);
+        doAnswer(inv -> {
+            inv.<AsDto>getArgument(0).setAsId(seq.incrementAndGet());
+            return null;
+        }).when(mapper).insertAsHeader(any());
+        FarmDirectory farms = mock(FarmDirectory.class);
+        when(farms.contains(FARM)).thenReturn(true);
+        AsImportService svc = new AsImportService(mapper, mock(AsChildWriter.class), status,
+                mock(AsSearchIndex.class), mock(DashFactCube.class), mock(DashDailyStatService.class),
+                mock(ListCountCache.class), mock(AsDataVersion.class), farms,
+                mock(EquipSourceRegistry.class), mock(EquipCatalogService.class), tx);
+
+        svc.importFile(new MockMultipartFile("file", "as.csv", "text/csv",
+                ("농가코드\n" + FARM + "\n" + FARM + "\n").getBytes(StandardCharsets.UTF_8)));
+
+        verify(status).refreshMany(List.of(41L, 42L));
+        verifyNoMoreInteractions(status);
+    }
+}
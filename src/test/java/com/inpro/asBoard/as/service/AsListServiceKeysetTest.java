@@ -0,0 +1,121 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.dto.AsListPageDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsListServiceKeysetTest {
+
+    private AsListService service;
+
+    // AS_ID 1..25, REG_DATE 는 3건씩 같은 값 → 동점은 AS_ID 로 구분되어야 함
+    private final List<AsDto> table = LongStream.rangeClosed(1, 25).mapToObj(id -> {
+        AsDto d = new AsDto();
+        d.setAsId(id);
+        d.setRegDate(LocalDateTime.of(2025, 9, 1, 0, 0).plusDays(id / 3));
+        return d;
+    }).toList();
+
+    @BeforeEach
+    void setUp() {
+        AsMapper mapper = mock(AsMapper.class);
+        // __list_keyset_filter + ORDER BY 를 메모리에서 흉내 (NULL 없음)
+        when(mapper.selectAsListFiltered(anyMap())).thenAnswer(inv -> {
+            Map<String, Object> p = inv.getArgument(0);
+            boolean asc = (Boolean) p.get("seekAsc");
+            boolean byReg = "regDate".equals(p.get("sortField"));
+            Comparator<AsDto> cmp = byReg
+                    ? Comparator.comparing(AsDto::getRegDate).thenComparing(AsDto::getAsId)
+                    : Comparator.comparing(AsDto::getAsId);
+            if (!asc) cmp = cmp.reversed();
+            Long keyAsId = (Long) p.get("keyAsId");
+            AsDto key = null;
+            if (keyAsId != null) {
+                key = new AsDto();
+                key.setAsId(keyAsId);
+                if (byReg) key.setRegDate((LocalDateTime) p.get("keyValue"));
+            }
+            final AsDto k = key;
+            final Comparator<AsDto> c = cmp;
+            return table.stream()
+                    .filter(d -> k == null || c.compare(d, k) > 0)
+                    .sorted(c)
+                    .limit((Integer) p.get("size"))
+                    .toList();
+        });
+        service = new AsListService(mapper, mock(AsSearchIndex.class));
+    }
+
+    private Map<String, Object> params(String sortField, String sortDir) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("sortField", sortField);
+        p.put("sortDir", sortDir);
+        return p;
+    }
+
+    private static List<Long> ids(AsListPageDto page) {
+        return page.getItems().stream().map(AsDto::getAsId).toList();
+    }
+
+    @Test
+    void pagesForwardThenBackToTheSameRows() {
+        Map<String, Object> p = params("asId", "desc");
+        AsListPageDto first = service.selectKeysetPage(p, null, 10);
+        assertThat(ids(first)).containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L);
+        assertThat(first.getPrevCursor()).isNull();
+
+        AsListPageDto second = service.selectKeysetPage(p, first.getNextCursor(), 10);
+        assertThat(ids(second)).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+
+        AsListPageDto last = service.selectKeysetPage(p, second.getNextCursor(), 10);
+        assertThat(ids(last)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(last.getNextCursor()).isNull();
+
+        AsListPageDto backToSecond = service.selectKeysetPage(p, last.getPrevCursor(), 10);
+        assertThat(ids(backToSecond)).isEqualTo(ids(second));
+        assertThat(backToSecond.getNextCursor()).isNotNull();
+
+        AsListPageDto backToFirst = service.selectKeysetPage(p, backToSecond.getPrevCursor(), 10);
+        assertThat(ids(backToFirst)).isEqualTo(ids(first));
+        assertThat(backToFirst.getPrevCursor()).isNull();
+    }
+
+    @Test
+    void regDateSortUsesAsIdAsTieBreaker() {
+        Map<String, Object> p = params("regDate", "asc");
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            AsListPageDto page = service.selectKeysetPage(p, cursor, 4);
+            seen.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seen).isEqualTo(LongStream.rangeClosed(1, 25).boxed().toList());
+    }
+
+    @Test
+    void cursorFromAnotherSortRestartsAtFirstPage() {
+        AsListPageDto byId = service.selectKeysetPage(params("asId", "desc"), null, 5);
+        AsListPageDto byReg = service.selectKeysetPage(params("regDate", "desc"), byId.getNextCursor(), 5);
+        assertThat(ids(byReg)).containsExactly(25L, 24L, 23L, 22L, 21L);
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        assertThatThrownBy(() -> service.selectKeysetPage(params("asId", "desc"), "%%%", 5))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
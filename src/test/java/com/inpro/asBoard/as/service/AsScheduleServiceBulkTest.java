@@ -0,0 +1,138 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.AsScheduleBulkDto;
+import com.inpro.asBoard.as.dto.AsScheduleBulkResultDto;
+import com.inpro.asBoard.as.dto.AsScheduleDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AsScheduleServiceBulkTest {
+
+    private static final LocalDateTime PLAN = LocalDateTime.of(2025, 9, 1, 9, 0);
+    private static final LocalDateTime DONE = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+    private AsMapper mapper;
+    private AsStatusService status;
+    private AsScheduleService service;
+
+    // scheduleId → 현재 행 (AS 100: 1, 2 / AS 200: 3(이미 완료))
+    private final Map<Long, AsScheduleDto> table = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        table.put(1L, schedule(1L, 100L, PLAN, null));
+        table.put(2L, schedule(2L, 100L, PLAN, null));
+        table.put(3L, schedule(3L, 200L, PLAN, DONE));
+
+        mapper = mock(AsMapper.class);
+        when(mapper.selectSchedulesByIds(anyList())).thenAnswer(inv -> inv.<List<Long>>getArgument(0).stream()
+                .map(table::get).filter(Objects::nonNull).toList());
+        status = mock(AsStatusService.class);
+        service = new AsScheduleService(mapper, status, mock(ListCountCache.class),
+                mock(AsDetailCache.class), mock(AsDataVersion.class));
+    }
+
+    private static AsScheduleDto schedule(Long id, Long asId, LocalDateTime plan, LocalDateTime done) {
+        AsScheduleDto s = new AsScheduleDto();
+        s.setScheduleId(id);
+        s.setAsId(asId);
+        s.setPlanDate(plan);
+        s.setCompleteDate(done);
+        return s;
+    }
+
+    private static AsScheduleBulkDto.Item item(Long id, Boolean complete, LocalDateTime planDate) {
+        AsScheduleBulkDto.Item it = new AsScheduleBulkDto.Item();
+        it.setScheduleId(id);
+        it.setComplete(complete);
+        it.setPlanDate(planDate);
+        return it;
+    }
+
+    @Test
+    void resultsKeepRequestOrderWithOneStatePerItem() {
+        List<AsScheduleBulkDto.Item> items = new ArrayList<>();
+        items.add(item(1L, true, null));                 // 완료 → OK
+        items.add(item(3L, true, null));                 // 이미 완료 → UNCHANGED
+        items.add(item(2L, null, PLAN.plusSeconds(30))); // 같은 분 → UNCHANGED
+        items.add(item(9L, true, null));                 // 없는 ID → NOT_FOUND
+        items.add(item(1L, true, null));                 // 중복 → INVALID
+        items.add(item(null, true, null));               // ID 누락 → INVALID
+        items.add(item(2L, false, null));                // 변경 내용 없음 → INVALID
+        items.add(null);                                 // null 항목 → INVALID
+
+        AsScheduleBulkResultDto out = service.applyBulk(items);
+
+        assertThat(out.getResults())
+                .extracting(AsScheduleBulkResultDto.Item::getScheduleId, AsScheduleBulkResultDto.Item::getResult)
+                .containsExactly(
+                        tuple(1L, "OK"),
+                        tuple(3L, "UNCHANGED"),
+                        tuple(2L, "UNCHANGED"),
+                        tuple(9L, "NOT_FOUND"),
+                        tuple(1L, "INVALID"),
+                        tuple(null, "INVALID"),
+                        tuple(2L, "INVALID"),
+                        tuple(null, "INVALID"));
+        assertThat(out.getResults().get(4).getMessage()).isEqualTo("중복된 scheduleId");
+        assertThat(out.getResults().get(6).getMessage()).isEqualTo("complete 또는 planDate 필요");
+        assertThat(out.getUpdated()).isEqualTo(1);
+    }
+
+    @Test
+    void alreadyCompletedKeepsOriginalCompleteDate() {
+        AsScheduleBulkResultDto out = service.applyBulk(List.of(item(3L, true, null)));
+
+        AsScheduleBulkResultDto.Item r = out.getResults().get(0);
+        assertThat(r.getResult()).isEqualTo("UNCHANGED");
+        assertThat(r.getCompleteDate()).isEqualTo(DONE);
+        assertThat(r.getAsId()).isEqualTo(200L);
+        verify(mapper, never()).completeSchedules(anyList(), any());
+        verifyNoInteractions(status);
+    }
+
+    @Test
+    void completeAndReplanAreWrittenOnlyForChangedRows() {
+        LocalDateTime newPlan = PLAN.plusDays(3);
+        AsScheduleBulkResultDto out = service.applyBulk(List.of(
+                item(1L, true, newPlan),     // 완료 + 예정일 변경
+                item(2L, null, PLAN),        // 같은 값
+                item(3L, false, newPlan)));  // 예정일만 변경 (이미 완료)
+
+        assertThat(out.getResults()).extracting(AsScheduleBulkResultDto.Item::getResult)
+                .containsExactly("OK", "UNCHANGED", "OK");
+        assertThat(out.getUpdated()).isEqualTo(2);
+
+        AsScheduleBulkResultDto.Item first = out.getResults().get(0);
+        assertThat(first.getPlanDate()).isEqualTo(newPlan);
+        assertThat(first.getCompleteDate()).isNotNull();
+
+        verify(mapper).completeSchedules(eq(List.of(1L)), eq(first.getCompleteDate()));
+        verify(mapper).updateSchedulePlanDates(argThat(list -> list.stream()
+                .map(AsScheduleDto::getScheduleId).toList().equals(List.of(1L, 3L))));
+        verify(mapper).touchAsHeaders(List.of(100L, 200L));
+        verify(status).refreshMany(new LinkedHashSet<>(List.of(100L, 200L)));
+    }
+
+    @Test
+    void nothingChangedSkipsWritesAndStatusRefresh() {
+        AsScheduleBulkResultDto out = service.applyBulk(List.of(item(9L, true, null), item(2L, null, PLAN)));
+
+        assertThat(out.getResults()).extracting(AsScheduleBulkResultDto.Item::getResult)
+                .containsExactly("NOT_FOUND", "UNCHANGED");
+        assertThat(out.getUpdated()).isZero();
+        verify(mapper, never()).completeSchedules(anyList(), any());
+        verify(mapper, never()).updateSchedulePlanDates(anyList());
+        verify(mapper, never()).touchAsHeaders(anyList());
+        verifyNoInteractions(status);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inpro.asBoard.as.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inpro.asBoard.as.dto.AsDto;
+import com.inpro.asBoard.as.mapper.AsMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class AsTextExportServiceTest {
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private AsTextExportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AsDto as = new AsDto();
+        as.setAsId(7L);
+        as.setFarmName("행복농장, 2동");
+        as.setReqDate(LocalDateTime.of(2025, 9, 1, 10, 0));
+        as.setReqContent("펌프 \"긴급\"");
+
+        Cursor<AsDto> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenAnswer(inv -> List.of(as).iterator());
+        AsMapper mapper = mock(AsMapper.class);
+        when(mapper.selectAsListCursorForExport(anyMap())).thenReturn(cursor);
+        service = new AsTextExportService(mapper, new ObjectMapper());
+    }
+
+    private byte[] export(AsTextExportService.Format format, boolean bom) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeAsList(new HashMap<>(), format, bom, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void csvIsPlainUtf8StartingWithHeaderByDefault() throws IOException {
+        byte[] bytes = export(AsTextExportService.Format.CSV, false);
+
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        assertThat(text).startsWith(String.join(",", AsTextExportService.AS_LIST_COLUMNS) + "\r\n");
+        assertThat(text).endsWith("7,\"행복농장, 2동\",,,,,,2025-09-01T10:00:00,,,,\"펌프 \"\"긴급\"\"\"\r\n");
+    }
+
+    @Test
+    void csvStartsWithUtf8BomWhenRequested() throws IOException {
+        byte[] bytes = export(AsTextExportService.Format.CSV, true);
+
+        assertThat(bytes).startsWith(BOM);
+        assertThat(new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8)).startsWith("asId,farmName,");
+    }
+
+    @Test
+    void ndjsonHasNoBomEvenWhenRequested() throws IOException {
+        byte[] bytes = export(AsTextExportService.Format.NDJSON, true);
+
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).endsWith("\"reqContent\":\"펌프 \\\"긴급\\\"\"}\n");
+    }
+}
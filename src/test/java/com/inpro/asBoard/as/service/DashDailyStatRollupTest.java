@@ -0,0 +1,145 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.DashMonthlyStatDto;
+import com.inpro.asBoard.as.dto.DashTimeSeriesPointDto;
+import com.inpro.asBoard.as.mapper.DashMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 일별 롤업 증감(h2 매퍼) : 테스트마다 롤백, 앱 컨텍스트 테스트와 DB 분리
+@MybatisTest(properties = "spring.datasource.url=jdbc:h2:mem:rollup;MODE=MSSQLServer;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("h2")
+class DashDailyStatRollupTest {
+
+    @Autowired
+    private DashMapper mapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private void header(long asId, String farm, String regDate) {
+        jdbc.update("INSERT INTO SF_TBL_AS_HEADER (AS_ID, FARM_CODE, AS_TYPE, REG_DATE) VALUES (?, ?, '장비', ?)",
+                asId, farm, Timestamp.valueOf(regDate));
+    }
+
+    private void equip(long asId, String... tables) {
+        for (String t : tables) {
+            jdbc.update("INSERT INTO SF_TBL_AS_EQUIP (AS_ID, TABLE_NAME, EQMNT_SEQ) VALUES (?, ?, '001')", asId, t);
+        }
+    }
+
+    private void delete(long asId) {
+        jdbc.update("UPDATE SF_TBL_AS_HEADER SET USE_FLAG = '0' WHERE AS_ID = ?", asId);
+    }
+
+    private List<DashTimeSeriesPointDto> days(String tableName) {
+        return mapper.selectTimeSeries("all", "day", null, tableName);
+    }
+
+    private int cells() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM SF_TBL_AS_DAILY_STAT", Integer.class);
+    }
+
+    @Test
+    void singleAsCellExposesItsIdThroughIdSum() {
+        header(1, "F1", "2025-09-01 10:00:00");
+        mapper.mergeDailyStatAdd(List.of(1L));
+
+        assertThat(days(null)).extracting(DashTimeSeriesPointDto::getBucket,
+                        DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple("2025-09-01", 1, 1L));
+    }
+
+    @Test
+    void tableCellsCountEachAsOnceAndFirstAsIdOnlyWhenSingle() {
+        header(1, "F1", "2025-09-01 10:00:00");
+        header(2, "F1", "2025-09-01 15:00:00");
+        equip(2, "SF_TBL_EQMNT", "SF_TBL_EQMNT", "SF_TBL_SENSOR");   // 같은 테이블 두 줄 → 1건
+        mapper.mergeDailyStatAdd(List.of(1L, 2L));
+
+        assertThat(days(null)).extracting(DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple(2, null));
+        assertThat(days("SF_TBL_EQMNT")).extracting(DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple(1, 2L));
+        assertThat(mapper.selectMonthlyStats()).extracting(DashMonthlyStatDto::getMonth, DashMonthlyStatDto::getCount)
+                .containsExactly(tuple("2025-09", 2));
+    }
+
+    @Test
+    void subtractBeforeChangeAndAddAfterKeepsSums() {
+        header(1, "F1", "2025-09-01 10:00:00");
+        header(2, "F1", "2025-09-01 15:00:00");
+        mapper.mergeDailyStatAdd(List.of(1L, 2L));
+
+        // 삭제 : 변경 전 차감 → 논리삭제 → 변경 후 가산(기여 없음)
+        mapper.mergeDailyStatSubtract(List.of(1L));
+        delete(1);
+        mapper.mergeDailyStatAdd(List.of(1L));
+
+        assertThat(days(null)).extracting(DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple(1, 2L));
+
+        // 등록일 이동 : 옛 칸에서 빠지고 새 칸에 더해짐
+        mapper.mergeDailyStatSubtract(List.of(2L));
+        jdbc.update("UPDATE SF_TBL_AS_HEADER SET REG_DATE = TIMESTAMP '2025-10-02 09:00:00' WHERE AS_ID = 2");
+        mapper.mergeDailyStatAdd(List.of(2L));
+
+        assertThat(days(null)).extracting(DashTimeSeriesPointDto::getBucket,
+                        DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple("2025-10-02", 1, 2L));
+    }
+
+    @Test
+    void cellIsDeletedWhenCountReachesZero() {
+        header(1, "F1", "2025-09-01 10:00:00");
+        equip(1, "SF_TBL_EQMNT");
+        mapper.mergeDailyStatAdd(List.of(1L));
+        assertThat(cells()).isEqualTo(2);   // '*' + SF_TBL_EQMNT
+
+        mapper.mergeDailyStatSubtract(List.of(1L));
+
+        assertThat(cells()).isZero();
+        assertThat(days(null)).isEmpty();
+    }
+
+    @Test
+    void rebuildRepairsDriftedAndStaleCells() {
+        header(1, "F1", "2025-09-01 10:00:00");
+        header(2, "F2", "2025-09-02 10:00:00");
+        mapper.mergeDailyStatAdd(List.of(1L, 2L));
+
+        // 어긋난 칸 : 값 틀림 / 기여 없는 칸 / 빠진 칸
+        jdbc.update("UPDATE SF_TBL_AS_DAILY_STAT SET AS_CNT = 5, AS_ID_SUM = 99 WHERE FARM_CODE = 'F1'");
+        jdbc.update("INSERT INTO SF_TBL_AS_DAILY_STAT (STAT_DATE, FARM_CODE, TABLE_NAME, CATEGORY, AS_CNT, AS_ID_SUM)"
+                + " VALUES (DATE '2025-09-03', 'F9', '*', '장비', 1, 7)");
+        jdbc.update("DELETE FROM SF_TBL_AS_DAILY_STAT WHERE FARM_CODE = 'F2'");
+
+        assertThat(mapper.mergeDailyStatAll()).isEqualTo(2);   // F1 수정 + F2 추가 (같은 칸은 건드리지 않음)
+        assertThat(mapper.deleteDailyStatStale()).isEqualTo(1);
+
+        assertThat(days(null)).extracting(DashTimeSeriesPointDto::getBucket,
+                        DashTimeSeriesPointDto::getCount, DashTimeSeriesPointDto::getFirstAsId)
+                .containsExactly(tuple("2025-09-01", 1, 1L), tuple("2025-09-02", 1, 2L));
+    }
+}
@@ -0,0 +1,195 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.dto.DashFactRow;
+import com.inpro.asBoard.as.mapper.DashMapper;
+import com.inpro.asBoard.as.service.DashFactCube.Dim;
+import com.inpro.asBoard.as.service.DashFactCube.Group;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static com.inpro.asBoard.as.service.DashFactCube.ALL_FROM;
+import static com.inpro.asBoard.as.service.DashFactCube.ALL_TO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashFactCubeTest {
+
+    private static final LocalDateTime SEP1 = LocalDateTime.of(2025, 9, 1, 10, 0);
+    private static final int SEP1_DAY = (int) LocalDate.of(2025, 9, 1).toEpochDay();
+
+    // asId → 사실 행 (DB 역할)
+    private final TreeMap<Long, List<DashFactRow>> db = new TreeMap<>();
+    private DashMapper mapper;
+    private DashFactCube cube;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(DashMapper.class);
+        when(mapper.selectDashFacts(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            List<DashFactRow> out = new ArrayList<>();
+            for (Map.Entry<Long, List<DashFactRow>> e : db.entrySet()) {
+                if (ids == null || ids.contains(e.getKey())) out.addAll(e.getValue());
+            }
+            return out;
+        });
+        cube = new DashFactCube(mapper);
+    }
+
+    private void put(long asId, String farm, String type, LocalDateTime regDate, String... tables) {
+        List<DashFactRow> rows = new ArrayList<>();
+        for (String t : tables.length == 0 ? new String[]{null} : tables) {
+            DashFactRow r = new DashFactRow();
+            r.setAsId(asId);
+            r.setFarmCode(farm);
+            r.setFarmName("농장" + farm);
+            r.setAsType(type);
+            r.setRegDate(regDate);
+            r.setTableName(t);
+            rows.add(r);
+        }
+        db.put(asId, rows);
+    }
+
+    private List<Group> all(Dim dim) {
+        return cube.count(dim, ALL_FROM, ALL_TO, null, null);
+    }
+
+    private static Map<String, Integer> counts(List<Group> groups) {
+        Map<String, Integer> m = new TreeMap<>();
+        for (Group g : groups) m.put(g.key(), g.count());
+        return m;
+    }
+
+    private void seed() {
+        put(1, "F1", "장비",     SEP1,               "SF_TBL_EQMNT", "SF_TBL_SENSOR");
+        put(2, "F1", "네트워크", SEP1.plusDays(1),   "SF_TBL_EQMNT");
+        put(3, "F2", "모듈",     SEP1.plusDays(31));
+        put(4, "F2", "통신장애", null,               "SF_TBL_SENSOR");
+        cube.rebuild();
+    }
+
+    // ===== 집계 =====
+
+    @Test
+    void headerAxesCountEachAsOnceEvenWithSeveralTables() {
+        seed();
+
+        assertThat(cube.isReady()).isTrue();
+        assertThat(counts(all(Dim.FARM))).containsExactlyEntriesOf(new TreeMap<>(Map.of("F1", 2, "F2", 2)));
+        assertThat(counts(all(Dim.TYPE))).containsOnly(
+                Map.entry("장비", 1), Map.entry("네트워크", 1), Map.entry("모듈", 1), Map.entry("통신장애", 1));
+        // 4분류는 부분 일치(통신 → 네트워크), 정확 분류는 나머지를 기타로
+        assertThat(counts(all(Dim.CATEGORY4))).containsOnly(
+                Map.entry("장비", 1), Map.entry("네트워크", 2), Map.entry("모듈", 1));
+        assertThat(counts(all(Dim.CATEGORY))).containsOnly(
+                Map.entry("장비", 1), Map.entry("네트워크", 1), Map.entry("모듈", 1), Map.entry("기타", 1));
+        assertThat(cube.farmName("F2")).isEqualTo("농장F2");
+    }
+
+    @Test
+    void tableAxisAndTableFilterCountPerAsAndTable() {
+        seed();
+
+        assertThat(counts(all(Dim.TABLE))).containsOnly(Map.entry("SF_TBL_EQMNT", 2), Map.entry("SF_TBL_SENSOR", 2));
+        assertThat(counts(cube.count(Dim.FARM, ALL_FROM, ALL_TO, null, "SF_TBL_SENSOR")))
+                .containsOnly(Map.entry("F1", 1), Map.entry("F2", 1));
+        assertThat(counts(cube.count(Dim.TABLE, ALL_FROM, ALL_TO, "F1", null)))
+                .containsOnly(Map.entry("SF_TBL_EQMNT", 2), Map.entry("SF_TBL_SENSOR", 1));
+        assertThat(cube.count(Dim.FARM, ALL_FROM, ALL_TO, "NOPE", null)).isEmpty();
+        assertThat(cube.count(Dim.FARM, ALL_FROM, ALL_TO, null, "SF_TBL_NOPE")).isEmpty();
+    }
+
+    @Test
+    void periodIsHalfOpenAndExcludesRowsWithoutRegDate() {
+        seed();
+
+        // [9/1, 9/2) → AS 1 만, 등록일 없는 AS 4 는 기간 지정 시 제외
+        assertThat(counts(cube.count(Dim.FARM, SEP1_DAY, SEP1_DAY + 1, null, null))).containsOnly(Map.entry("F1", 1));
+        assertThat(counts(cube.count(Dim.FARM, SEP1_DAY, SEP1_DAY + 2, null, null))).containsOnly(Map.entry("F1", 2));
+        assertThat(cube.count(Dim.FARM, SEP1_DAY + 2, SEP1_DAY + 31, null, null)).isEmpty();
+    }
+
+    @Test
+    void dayAndMonthGroupsAreInKeyOrderWithMinAsId() {
+        seed();
+        put(5, "F2", "장비", SEP1.plusHours(3));
+        cube.rebuild();
+
+        assertThat(cube.count(Dim.DAY, SEP1_DAY, SEP1_DAY + 40, null, null))
+                .extracting(Group::key, Group::count, Group::minAsId)
+                .containsExactly(
+                        tuple("2025-09-01", 2, 1L),
+                        tuple("2025-09-02", 1, 2L),
+                        tuple("2025-10-02", 1, 3L));
+        assertThat(all(Dim.MONTH)).extracting(Group::key, Group::count)
+                .containsExactly(tuple("2025-09", 3), tuple("2025-10", 1));
+    }
+
+    // ===== 증분 반영 =====
+
+    @Test
+    void refreshReplacesChangedAsAndDropsDeletedAs() {
+        seed();
+
+        put(1, "F2", "모듈", SEP1, "SF_TBL_SENSOR");   // 농가/유형/장비 변경
+        db.remove(2L);                                 // 논리삭제 → 조회 안 됨
+        put(6, "F3", "장비", SEP1);                     // 신규
+        cube.refreshAfterCommit(List.of(1L, 2L, 6L));
+
+        assertThat(counts(all(Dim.FARM))).containsOnly(Map.entry("F2", 3), Map.entry("F3", 1));
+        assertThat(counts(all(Dim.TABLE))).containsOnly(Map.entry("SF_TBL_SENSOR", 2));
+        assertThat(counts(all(Dim.CATEGORY4))).containsOnly(
+                Map.entry("모듈", 2), Map.entry("네트워크", 1), Map.entry("장비", 1));
+    }
+
+    @Test
+    void refreshDuringRebuildIsReappliedAfterSwap() {
+        put(1, "F1", "장비", SEP1);
+        List<DashFactRow> stale = new ArrayList<>(db.get(1L));
+        // 전체 조회가 끝나기 전에 AS 1 이 바뀌고 증분 반영이 먼저 끝나는 경우
+        when(mapper.selectDashFacts(null)).thenAnswer(inv -> {
+            put(1, "F1", "모듈", SEP1);
+            cube.refreshAfterCommit(List.of(1L));
+            return stale;
+        });
+
+        cube.rebuild();
+
+        assertThat(counts(all(Dim.CATEGORY4))).containsOnly(Map.entry("모듈", 1));
+    }
+
+    // ===== 압축 =====
+
+    @Test
+    void compactionKeepsCountsAndLaterRefreshesCorrect() {
+        LongStream.rangeClosed(1, 3000).forEach(id ->
+                put(id, id % 2 == 0 ? "EVEN" : "ODD", "장비", SEP1, "SF_TBL_EQMNT", "SF_TBL_SENSOR"));
+        cube.rebuild();
+
+        // 2000 AS × 2행 삭제 → 죽은 행 4000 / 6000 → 압축
+        List<Long> removed = LongStream.rangeClosed(1, 2000).boxed().toList();
+        removed.forEach(db::remove);
+        cube.refreshAfterCommit(removed);
+
+        assertThat(counts(all(Dim.FARM))).containsOnly(Map.entry("EVEN", 500), Map.entry("ODD", 500));
+        assertThat(counts(all(Dim.TABLE))).containsOnly(Map.entry("SF_TBL_EQMNT", 1000), Map.entry("SF_TBL_SENSOR", 1000));
+        assertThat(all(Dim.FARM)).extracting(Group::minAsId).containsExactlyInAnyOrder(2001L, 2002L);
+
+        // 압축 후 AS → 행 위치가 다시 잡혔는지 : 수정/삭제가 옛 행을 정확히 지움
+        put(2001, "EVEN", "모듈", SEP1, "SF_TBL_EQMNT");
+        db.remove(3000L);
+        cube.refreshAfterCommit(List.of(2001L, 3000L));
+
+        assertThat(counts(all(Dim.FARM))).containsOnly(Map.entry("EVEN", 500), Map.entry("ODD", 499));
+        assertThat(counts(all(Dim.TABLE))).containsOnly(Map.entry("SF_TBL_EQMNT", 999), Map.entry("SF_TBL_SENSOR", 998));
+        assertThat(counts(all(Dim.CATEGORY4))).containsOnly(Map.entry("장비", 998), Map.entry("모듈", 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.DashMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DashServicePeriodTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private DashMapper mapper;
+    private DashFactCube cube;
+
+    private DashService serviceAt(LocalDateTime now) {
+        mapper = mock(DashMapper.class);
+        cube = mock(DashFactCube.class);
+        Clock clock = Clock.fixed(now.atZone(KST).toInstant(), KST);
+        return new DashService(mapper, clock, cube, mock(SidoResolver.class));
+    }
+
+    // 큐브 준비 전 → selectSummaryCounts 에 넘긴 REG_DATE 범위 [xxxFrom, xxxTo)
+    private Map<String, Object> summaryParams(LocalDateTime now) {
+        serviceAt(now).getSummary();
+        ArgumentCaptor<Map<String, Object>> p = ArgumentCaptor.forClass(Map.class);
+        verify(mapper).selectSummaryCounts(p.capture());
+        return p.getValue();
+    }
+
+    private static LocalDateTime at(int y, int m, int d) {
+        return LocalDate.of(y, m, d).atStartOfDay();
+    }
+
+    @Test
+    void sundayLastSecondStaysInWeekStartingMonday() {
+        Map<String, Object> p = summaryParams(LocalDateTime.of(2025, 9, 7, 23, 59, 59));   // 일요일
+
+        assertThat(p).containsEntry("weekFrom", at(2025, 9, 1)).containsEntry("weekTo", at(2025, 9, 8));
+        assertThat(p).containsEntry("dayFrom", at(2025, 9, 7)).containsEntry("dayTo", at(2025, 9, 8));
+    }
+
+    @Test
+    void mondayMidnightStartsNewWeek() {
+        Map<String, Object> p = summaryParams(LocalDateTime.of(2025, 9, 8, 0, 0));         // 월요일 0시
+
+        assertThat(p).containsEntry("weekFrom", at(2025, 9, 8)).containsEntry("weekTo", at(2025, 9, 15));
+        assertThat(p).containsEntry("dayFrom", at(2025, 9, 8)).containsEntry("dayTo", at(2025, 9, 9));
+    }
+
+    @Test
+    void weekSpanningMonthEndKeepsMonthSeparate() {
+        Map<String, Object> p = summaryParams(LocalDateTime.of(2025, 10, 1, 12, 0));       // 수요일
+
+        assertThat(p).containsEntry("weekFrom", at(2025, 9, 29)).containsEntry("weekTo", at(2025, 10, 6));
+        assertThat(p).containsEntry("monthFrom", at(2025, 10, 1)).containsEntry("monthTo", at(2025, 11, 1));
+    }
+
+    @Test
+    void monthEndIncludesLastDayUpToMidnight() {
+        Map<String, Object> leap = summaryParams(LocalDateTime.of(2024, 2, 29, 23, 59, 59));
+        assertThat(leap).containsEntry("monthFrom", at(2024, 2, 1)).containsEntry("monthTo", at(2024, 3, 1));
+
+        Map<String, Object> dec = summaryParams(LocalDateTime.of(2025, 12, 31, 23, 59, 59));
+        assertThat(dec).containsEntry("monthFrom", at(2025, 12, 1)).containsEntry("monthTo", at(2026, 1, 1));
+    }
+
+    @Test
+    void boundariesFollowClockZoneNotUtc() {
+        // UTC 로는 8월 31일 15시지만 KST 로는 9월 1일 0시
+        Map<String, Object> p = summaryParams(LocalDateTime.of(2025, 9, 1, 0, 0));
+
+        assertThat(p).containsEntry("monthFrom", at(2025, 9, 1)).containsEntry("dayFrom", at(2025, 9, 1));
+    }
+
+    @Test
+    void cubeUsesSameBoundariesAsEpochDays() {
+        DashService service = serviceAt(LocalDateTime.of(2025, 9, 7, 23, 59, 59));
+        when(cube.isReady()).thenReturn(true);
+        when(cube.count(any(), anyInt(), anyInt(), any(), any())).thenReturn(List.of());
+
+        service.aggregate("category", "1w", 10);
+        service.aggregate("category", "1m", 10);
+        service.aggregate("category", "today", 10);
+        service.aggregate("category", "all", 10);
+
+        int sep1 = (int) LocalDate.of(2025, 9, 1).toEpochDay();
+        verify(cube).count(DashFactCube.Dim.CATEGORY, sep1, sep1 + 7, null, null);
+        verify(cube).count(DashFactCube.Dim.CATEGORY, sep1, sep1 + 30, null, null);
+        verify(cube).count(DashFactCube.Dim.CATEGORY, sep1 + 6, sep1 + 7, null, null);
+        verify(cube).count(DashFactCube.Dim.CATEGORY, DashFactCube.ALL_FROM, DashFactCube.ALL_TO, null, null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.inpro.asBoard.as.service;
+
+import com.inpro.asBoard.as.mapper.DashMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SidoResolverTest {
+
+    @Test
+    void takesPartBeforeSlashOrFirstSpace() {
+        assertThat(SidoResolver.normalize("경기/화성")).isEqualTo("경기");
+        assertThat(SidoResolver.normalize("경기도 화성시 / 서신면")).isEqualTo("경기");
+        assertThat(SidoResolver.normalize("충남 논산시")).isEqualTo("충남");
+        assertThat(SidoResolver.normalize("제주")).isEqualTo("제주");
+    }
+
+    @Test
+    void officialNamesMapToShortName() {
+        assertThat(SidoResolver.normalize("서울특별시 강서구")).isEqualTo("서울");
+        assertThat(SidoResolver.normalize("세종특별자치시")).isEqualTo("세종");
+        assertThat(SidoResolver.normalize("강원특별자치도 춘천시")).isEqualTo("강원");
+        assertThat(SidoResolver.normalize("전북특별자치도 김제시")).isEqualTo("전북");
+        assertThat(SidoResolver.normalize("충청북도 청주시")).isEqualTo("충북");
+        assertThat(SidoResolver.normalize("충청남도/부여")).isEqualTo("충남");
+        assertThat(SidoResolver.normalize("전라남도 나주시")).isEqualTo("전남");
+        assertThat(SidoResolver.normalize("경상북도 상주시")).isEqualTo("경북");
+        assertThat(SidoResolver.normalize("경상남도")).isEqualTo("경남");
+    }
+
+    @Test
+    void surroundingWhitespaceIsIgnored() {
+        assertThat(SidoResolver.normalize("  경기도 화성시")).isEqualTo("경기");
+        assertThat(SidoResolver.normalize(" 전남 / 해남 ")).isEqualTo("전남");
+    }
+
+    @Test
+    void blankIsNullAndUnknownRegionIsKeptAsIs() {
+        assertThat(SidoResolver.normalize(null)).isNull();
+        assertThat(SidoResolver.normalize("")).isNull();
+        assertThat(SidoResolver.normalize("   ")).isNull();
+        assertThat(SidoResolver.normalize("/화성")).isNull();
+        assertThat(SidoResolver.normalize("해외/베트남")).isEqualTo("해외");
+    }
+
+    @Test
+    void nameAndCodeConvertBothWays() {
+        assertThat(SidoResolver.codeOf("충북")).isEqualTo("KR-43");
+        assertThat(SidoResolver.codeOf("해외")).isNull();
+        assertThat(SidoResolver.nameOf("kr-43")).isEqualTo("충북");
+        assertThat(SidoResolver.nameOf(" 경기 ")).isEqualTo("경기");
+        assertThat(SidoResolver.nameOf(" ")).isNull();
+    }
+
+    @Test
+    void refreshGroupsFarmsBySidoAndSkipsUnknownRegion() {
+        DashMapper mapper = mock(DashMapper.class);
+        when(mapper.selectFarmRegions()).thenReturn(List.of(
+                farm("100002 ", "B농장", "충청북도 청주시"),
+                farm("100001", "A농장", "충북/음성"),
+                farm("100003", "C농장", ""),
+                farm(null, "D농장", "경기")));
+        SidoResolver resolver = new SidoResolver(mapper);
+
+        assertThat(resolver.sidoOf(" 100002")).isEqualTo("충북");
+        assertThat(resolver.farmName("100001")).isEqualTo("A농장");
+        assertThat(resolver.sidoOf("100003")).isNull();
+        assertThat(resolver.farmsOf("KR-43")).containsExactly("100002", "100001");
+        assertThat(resolver.farmsOf("경기")).isEmpty();
+        verify(mapper, times(1)).selectFarmRegions();
+    }
+
+    private static Map<String, String> farm(String code, String name, String region) {
+        Map<String, String> m = new HashMap<>();
+        m.put("FARM_CODE", code);
+        m.put("FARM_NAME", name);
+        m.put("REGION_NAME", region);
+        return m;
+    }
+}